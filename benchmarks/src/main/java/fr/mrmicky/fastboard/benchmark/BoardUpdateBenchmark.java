@@ -0,0 +1,111 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard.benchmark;
+
+import fr.mrmicky.fastboard.FastBoard;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Updates of the lines and scores of a single board, with and without changes.
+ * Run with {@code -prof gc} to measure the allocations of each update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardUpdateBenchmark {
+
+    @Param({"5", "15"})
+    private int size;
+
+    private FastBoard board;
+    private List<String> lines;
+    private List<String> otherLines;
+    private List<String> scores;
+    private List<String> otherScores;
+    private int tick;
+
+    @Setup
+    public void setup() {
+        Player player = StubServer.createPlayer();
+        this.board = new FastBoard(player);
+        this.lines = new ArrayList<>();
+        this.otherLines = new ArrayList<>();
+        this.scores = new ArrayList<>();
+        this.otherScores = new ArrayList<>();
+
+        for (int i = 0; i < this.size; i++) {
+            this.lines.add("§7Line §a" + i);
+            this.otherLines.add(i % 3 == 0 ? "§7Line §c" + i : "§7Line §a" + i);
+            this.scores.add("§e" + i);
+            this.otherScores.add(i % 3 == 0 ? "§6" + i : "§e" + i);
+        }
+
+        this.board.updateLines(this.lines, this.scores);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.board.delete();
+    }
+
+    @Benchmark
+    public void updateLinesUnchanged() {
+        this.board.updateLines(this.lines, this.scores);
+    }
+
+    @Benchmark
+    public void updateLinesChanged() {
+        this.board.updateLines((this.tick++ & 1) == 0 ? this.otherLines : this.lines, this.scores);
+    }
+
+    @Benchmark
+    public void updateLine() {
+        int line = this.tick++ % this.size;
+        this.board.updateLine(line, (this.tick & 1) == 0 ? this.otherLines.get(line) : this.lines.get(line));
+    }
+
+    @Benchmark
+    public void updateScores() {
+        this.board.updateScores((this.tick++ & 1) == 0 ? this.otherScores : this.scores);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard.benchmark;
+
+import fr.mrmicky.fastboard.ComponentCache;
+import fr.mrmicky.fastboard.FastBoard;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of lines to Minecraft components, for string and Adventure boards.
+ * The stub server doesn't provide native Adventure support, so Adventure components
+ * are converted through their JSON text, like on Spigot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComponentConversionBenchmark {
+
+    @Param({"false", "true"})
+    private boolean cache;
+
+    private StringBoard stringBoard;
+    private AdventureBoard adventureBoard;
+    private String line;
+    private Component component;
+
+    @Setup
+    public void setup() {
+        Player player = StubServer.createPlayer();
+        this.stringBoard = new StringBoard(player);
+        this.adventureBoard = new AdventureBoard(player);
+        this.line = "§7Players: §a§l42 §8/ §7100";
+        this.component = Component.text("Players: ", NamedTextColor.GRAY)
+                .append(Component.text("42", NamedTextColor.GREEN, TextDecoration.BOLD))
+                .append(Component.text(" / ", NamedTextColor.DARK_GRAY))
+                .append(Component.text("100", NamedTextColor.GRAY));
+
+        FastBoard.setComponentCache(this.cache ? new ComponentCache<>(1000) : null);
+        fr.mrmicky.fastboard.adventure.FastBoard.setComponentCache(this.cache ? new ComponentCache<>(1000) : null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.stringBoard.delete();
+        this.adventureBoard.delete();
+        FastBoard.setComponentCache(null);
+        fr.mrmicky.fastboard.adventure.FastBoard.setComponentCache(null);
+    }
+
+    @Benchmark
+    public Object stringToMinecraftComponent() throws Throwable {
+        return this.stringBoard.toMinecraftComponent(this.line);
+    }
+
+    @Benchmark
+    public Object adventureToMinecraftComponent() throws Throwable {
+        return this.adventureBoard.toMinecraftComponent(this.component);
+    }
+
+    private static final class StringBoard extends FastBoard {
+
+        StringBoard(Player player) {
+            super(player);
+        }
+
+        @Override
+        protected Object toMinecraftComponent(String line) throws Throwable {
+            return super.toMinecraftComponent(line);
+        }
+    }
+
+    private static final class AdventureBoard extends fr.mrmicky.fastboard.adventure.FastBoard {
+
+        AdventureBoard(Player player) {
+            super(player);
+        }
+
+        @Override
+        protected Object toMinecraftComponent(Component component) throws Throwable {
+            return super.toMinecraftComponent(component);
+        }
+    }
+}
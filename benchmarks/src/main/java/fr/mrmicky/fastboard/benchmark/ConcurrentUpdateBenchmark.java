@@ -0,0 +1,115 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard.benchmark;
+
+import fr.mrmicky.fastboard.FastBoard;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Updates of the same board from multiple threads, each thread updating its own line,
+ * and reads of the board while it's updated.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ConcurrentUpdateBenchmark {
+
+    @Benchmark
+    public void updateLine(SharedBoard shared, UpdatingThread thread) {
+        thread.update(shared.board);
+    }
+
+    @Benchmark
+    @Group("updateWhileReading")
+    @GroupThreads(3)
+    public void update(SharedBoard shared, UpdatingThread thread) {
+        thread.update(shared.board);
+    }
+
+    @Benchmark
+    @Group("updateWhileReading")
+    @GroupThreads(1)
+    public Object read(SharedBoard shared) {
+        return shared.board.getLines();
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedBoard {
+
+        private final AtomicInteger threads = new AtomicInteger();
+        private FastBoard board;
+
+        @Setup
+        public void setup() {
+            Player player = StubServer.createPlayer();
+            this.board = new FastBoard(player);
+            this.board.updateLines("", "", "", "", "", "", "", "");
+        }
+
+        @TearDown
+        public void tearDown() {
+            this.board.delete();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class UpdatingThread {
+
+        private int line;
+        private String text;
+        private String otherText;
+        private int tick;
+
+        @Setup
+        public void setup(SharedBoard shared) {
+            this.line = shared.threads.getAndIncrement() % 8;
+            this.text = "§aLine " + this.line;
+            this.otherText = "§cLine " + this.line;
+        }
+
+        void update(FastBoard board) {
+            board.updateLine(this.line, (this.tick++ & 1) == 0 ? this.text : this.otherText);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard.benchmark;
+
+import fr.mrmicky.fastboard.FastBoard;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Split of a line in the legacy team prefix and suffix, as done on 1.12 and lower servers.
+ * Each operation splits a line and sends the team update packet.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LineSplitBenchmark {
+
+    @Param({"§aShort", "§7Players: §a§l42 §8/ §7100", "§c§lA line §r§7longer than §e32 §7characters §8»"})
+    private String line;
+
+    private LegacyBoard board;
+
+    @Setup
+    public void setup() {
+        Player player = StubServer.createPlayer();
+        this.board = new LegacyBoard(player);
+        this.board.updateLines(this.line);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.board.delete();
+    }
+
+    @Benchmark
+    public void sendLineChange() throws Throwable {
+        this.board.sendLineChange(0);
+    }
+
+    private static final class LegacyBoard extends FastBoard {
+
+        LegacyBoard(Player player) {
+            super(player);
+        }
+
+        @Override
+        protected void sendLineChange(int score) throws Throwable {
+            super.sendLineChange(score);
+        }
+
+        @Override
+        protected boolean hasLinesMaxLength() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard.benchmark;
+
+import fr.mrmicky.fastboard.FastBoard;
+import fr.mrmicky.fastboard.LineTemplate;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh of a 15 lines board where a single value changed, by formatting all the lines
+ * and calling {@code updateLines}, or by setting the variable used by a line template.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LineTemplateBenchmark {
+
+    private static final int SIZE = 15;
+
+    private FastBoard formattedBoard;
+    private FastBoard templateBoard;
+    private int coins;
+
+    @Setup
+    public void setup() {
+        Player player = StubServer.createPlayer();
+        this.formattedBoard = new FastBoard(player);
+        this.templateBoard = new FastBoard(player);
+        this.templateBoard.updateLines(formatLines(0));
+
+        for (int i = 0; i < SIZE; i++) {
+            this.templateBoard.setLineTemplate(i, LineTemplate.compile("§7Stat " + i + ": §a{stat" + i + "}"));
+            this.templateBoard.setVariable("stat" + i, i == 0 ? 0 : i * 100);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.formattedBoard.delete();
+        this.templateBoard.delete();
+    }
+
+    @Benchmark
+    public void formattedLines() {
+        this.formattedBoard.updateLines(formatLines(this.coins++));
+    }
+
+    @Benchmark
+    public void template() {
+        this.templateBoard.setVariable("stat0", this.coins++);
+    }
+
+    private static List<String> formatLines(int coins) {
+        List<String> lines = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            lines.add(String.format("§7Stat %d: §a%d", i, i == 0 ? coins : i * 100));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard.benchmark;
+
+import io.netty.channel.Channel;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.minecraft.network.Connection;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerCommonPacketListenerImpl;
+import org.bukkit.Bukkit;
+import org.bukkit.craftbukkit.CraftServer;
+import org.bukkit.craftbukkit.entity.CraftPlayer;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Field;
+
+/**
+ * Installs a stub CraftBukkit server, so FastBoard can resolve the stand-in Minecraft classes
+ * of this module without a running server.
+ * <p>
+ * The server and player API are too large to implement, so the stub classes are abstract
+ * and only subclassed at runtime. The API methods they don't implement must not be called.
+ */
+public final class StubServer {
+
+    private static final Class<? extends CraftPlayer> PLAYER_CLASS;
+
+    static {
+        try {
+            Class<? extends CraftServer> serverClass = subclass(CraftServer.class);
+            Field serverField = Bukkit.class.getDeclaredField("server");
+            serverField.setAccessible(true);
+
+            if (serverField.get(null) == null) {
+                serverField.set(null, serverClass.getConstructor().newInstance());
+            }
+
+            PLAYER_CLASS = subclass(CraftPlayer.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private StubServer() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a new online player, with its own connection. This must be called before the first board
+     * is created, as creating a board resolves the server classes.
+     *
+     * @return the new player
+     */
+    public static Player createPlayer() {
+        return createPlayer(null);
+    }
+
+    /**
+     * Creates a new online player, whose connection writes the packets to the given Netty channel.
+     *
+     * @param channel the channel of the player connection, or null to only count the packets
+     * @return the new player
+     * @see #createPlayer()
+     */
+    public static Player createPlayer(Channel channel) {
+        try {
+            return PLAYER_CLASS.getConstructor(ServerPlayer.class).newInstance(new ServerPlayer(new Connection(channel)));
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Unable to create player", e);
+        }
+    }
+
+    /**
+     * Disconnects a player created by {@link #createPlayer()}, who is then no longer online.
+     *
+     * @param player the player
+     */
+    public static void disconnect(Player player) {
+        ((CraftPlayer) player).setOnline(false);
+    }
+
+    /**
+     * Returns the number of packets sent to a player created by {@link #createPlayer()}.
+     *
+     * @param player the player
+     * @return the number of packets sent to the player
+     */
+    public static long sentPackets(Player player) {
+        ServerCommonPacketListenerImpl connection = ((CraftPlayer) player).getHandle().connection;
+        return connection.getSentPackets();
+    }
+
+    private static <T> Class<? extends T> subclass(Class<T> type) {
+        return new ByteBuddy()
+                .subclass(type, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING)
+                .make()
+                .load(type.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.minecraft.network;
+
+import io.netty.channel.Channel;
+import net.minecraft.network.protocol.Packet;
+
+/**
+ * Stand-in for the network connection of a player, counting the packets it sends.
+ * The packets are also written to its Netty channel, if it has one.
+ */
+public class Connection {
+
+    private final Channel channel;
+
+    private Packet<?> lastPacket;
+    private long sentPackets;
+
+    public Connection() {
+        this(null);
+    }
+
+    public Connection(Channel channel) {
+        this.channel = channel;
+    }
+
+    public void send(Packet<?> packet) {
+        this.lastPacket = packet;
+        this.sentPackets++;
+
+        if (this.channel != null) {
+            this.channel.writeAndFlush(packet);
+        }
+    }
+
+    public Packet<?> getLastPacket() {
+        return this.lastPacket;
+    }
+
+    public long getSentPackets() {
+        return this.sentPackets;
+    }
+}
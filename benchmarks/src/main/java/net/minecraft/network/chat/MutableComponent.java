@@ -0,0 +1,61 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.minecraft.network.chat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stand-in for a text component with a legacy color code, and children components.
+ */
+public class MutableComponent implements Component {
+
+    private final String text;
+    private final char color;
+    private final List<Component> siblings = new ArrayList<>();
+
+    public MutableComponent(String text, char color) {
+        this.text = text;
+        this.color = color;
+    }
+
+    public MutableComponent append(Component sibling) {
+        this.siblings.add(sibling);
+        return this;
+    }
+
+    public char getColor() {
+        return this.color;
+    }
+
+    @Override
+    public String getContents() {
+        return this.text;
+    }
+
+    @Override
+    public List<Component> getSiblings() {
+        return this.siblings;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.minecraft.network.protocol.game;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.numbers.NumberFormat;
+import net.minecraft.network.protocol.Packet;
+
+import java.util.Optional;
+
+/**
+ * Stand-in for the packet updating a score, with the 1.20.5+ optional components.
+ */
+public class ClientboundSetScorePacket implements Packet<ClientGamePacketListener> {
+
+    private final String owner;
+    private final String objectiveName;
+    private final int score;
+    private final Optional<Component> display;
+    private final Optional<NumberFormat> numberFormat;
+
+    public ClientboundSetScorePacket(String owner, String objectiveName, int score,
+                                     Optional<Component> display, Optional<NumberFormat> numberFormat) {
+        this.owner = owner;
+        this.objectiveName = objectiveName;
+        this.score = score;
+        this.display = display;
+        this.numberFormat = numberFormat;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.minecraft.server.network;
+
+import net.minecraft.network.Connection;
+import net.minecraft.network.protocol.Packet;
+
+/**
+ * Stand-in for the connection of a player, sending the packets through its network connection.
+ */
+public abstract class ServerCommonPacketListenerImpl {
+
+    protected final Connection connection;
+
+    protected ServerCommonPacketListenerImpl(Connection connection) {
+        this.connection = connection;
+    }
+
+    public void send(Packet<?> packet) {
+        this.connection.send(packet);
+    }
+
+    public Packet<?> getLastPacket() {
+        return this.connection.getLastPacket();
+    }
+
+    public long getSentPackets() {
+        return this.connection.getSentPackets();
+    }
+}
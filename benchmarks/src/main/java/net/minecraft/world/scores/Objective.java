@@ -0,0 +1,65 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.minecraft.world.scores;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.numbers.NumberFormat;
+import net.minecraft.world.scores.criteria.ObjectiveCriteria;
+
+/**
+ * Stand-in for a scoreboard objective.
+ */
+public class Objective {
+
+    private final Scoreboard scoreboard;
+    private final String name;
+    private final ObjectiveCriteria criteria;
+    private final Component displayName;
+    private final ObjectiveCriteria.RenderType renderType;
+    private final boolean displayAutoUpdate;
+    private final NumberFormat numberFormat;
+
+    public Objective(Scoreboard scoreboard, String name, ObjectiveCriteria criteria, Component displayName,
+                     ObjectiveCriteria.RenderType renderType, boolean displayAutoUpdate, NumberFormat numberFormat) {
+        this.scoreboard = scoreboard;
+        this.name = name;
+        this.criteria = criteria;
+        this.displayName = displayName;
+        this.renderType = renderType;
+        this.displayAutoUpdate = displayAutoUpdate;
+        this.numberFormat = numberFormat;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public Component getDisplayName() {
+        return this.displayName;
+    }
+
+    public ObjectiveCriteria.RenderType getRenderType() {
+        return this.renderType;
+    }
+}
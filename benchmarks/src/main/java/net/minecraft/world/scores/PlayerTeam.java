@@ -0,0 +1,63 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.minecraft.world.scores;
+
+import net.minecraft.network.chat.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Stand-in for a scoreboard team, with the fields in the same order as the Minecraft class.
+ */
+public class PlayerTeam {
+
+    private final Scoreboard scoreboard;
+    private final String name;
+    private final Set<String> players = new HashSet<>();
+    private Component displayName;
+    private Component playerPrefix;
+    private Component playerSuffix;
+
+    public PlayerTeam(Scoreboard scoreboard, String name) {
+        this.scoreboard = scoreboard;
+        this.name = name;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public Component getDisplayName() {
+        return this.displayName;
+    }
+
+    public Component getPlayerPrefix() {
+        return this.playerPrefix;
+    }
+
+    public Component getPlayerSuffix() {
+        return this.playerSuffix;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.bukkit.craftbukkit.entity;
+
+import net.minecraft.server.level.ServerPlayer;
+import org.bukkit.entity.Player;
+
+/**
+ * Stand-in for the CraftBukkit player, wrapping a server player.
+ * The other player API methods are not implemented, instances are created by {@link fr.mrmicky.fastboard.benchmark.StubServer}.
+ */
+public abstract class CraftPlayer implements Player {
+
+    private final ServerPlayer handle;
+    private volatile boolean online = true;
+
+    protected CraftPlayer(ServerPlayer handle) {
+        this.handle = handle;
+    }
+
+    public ServerPlayer getHandle() {
+        return this.handle;
+    }
+
+    @Override
+    public String getName() {
+        return "Player";
+    }
+
+    @Override
+    public boolean isOnline() {
+        return this.online;
+    }
+
+    public void setOnline(boolean online) {
+        this.online = online;
+    }
+}
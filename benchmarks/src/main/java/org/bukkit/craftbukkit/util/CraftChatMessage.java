@@ -0,0 +1,92 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.bukkit.craftbukkit.util;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+
+/**
+ * Stand-in for the CraftBukkit text converters, creating one child component
+ * for each part of the legacy text after a color code, or for each text of the JSON text.
+ */
+public final class CraftChatMessage {
+
+    private static final char COLOR_CHAR = '§';
+
+    private CraftChatMessage() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static Component[] fromString(String message) {
+        MutableComponent root = new MutableComponent("", 'r');
+        char color = 'r';
+        int start = 0;
+
+        for (int i = 0; i < message.length(); i++) {
+            if (message.charAt(i) != COLOR_CHAR || i + 1 >= message.length()) {
+                continue;
+            }
+
+            if (i > start) {
+                root.append(new MutableComponent(message.substring(start, i), color));
+            }
+            color = message.charAt(i + 1);
+            start = i + 2;
+            i++;
+        }
+
+        if (start < message.length()) {
+            root.append(new MutableComponent(message.substring(start), color));
+        }
+
+        return new Component[]{root};
+    }
+
+    public static Component fromJSON(String json) {
+        MutableComponent root = new MutableComponent("", 'r');
+        int index = 0;
+
+        while ((index = json.indexOf("\"text\":\"", index)) >= 0) {
+            StringBuilder text = new StringBuilder();
+            index += 8;
+
+            for (char c; (c = json.charAt(index)) != '"'; index++) {
+                if (c == '\\') {
+                    c = json.charAt(++index);
+                    if (c == 'u') {
+                        c = (char) Integer.parseInt(json.substring(index + 1, index + 5), 16);
+                        index += 4;
+                    }
+                }
+                text.append(c);
+            }
+
+            if (text.length() > 0) {
+                root.append(new MutableComponent(text.toString(), 'r'));
+            }
+        }
+
+        return root;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AnimationsTest {
+
+    @Test
+    void shrinkingTheLinesStopsTheirAnimations() {
+        TickingPlugin plugin = new TickingPlugin();
+        FastBoardManager manager = new FastBoardManager(plugin.getPlugin());
+        ScoreboardClient client = new ScoreboardClient();
+        FastBoard board = manager.register(new FastBoard(client.getPlayer()));
+
+        board.updateLines("a", "b", "c", "d");
+        board.animateLine(3, Animation.of(1, "x", "y"));
+        plugin.tick();
+        assertEquals("y", board.getLine(3));
+        assertEquals(board.getLines(), client.receive().lines());
+
+        board.updateLines("a", "b", "c");
+        assertNull(board.getLineAnimation(3));
+        plugin.tick();
+        assertEquals(board.getLines(), client.receive().lines());
+
+        // The board is no longer animated, so the ticks don't even try to update it
+        long suppressedUpdates = board.getMetrics().snapshot().getSuppressedUpdates();
+        plugin.tick();
+        plugin.tick();
+        assertEquals(suppressedUpdates, board.getMetrics().snapshot().getSuppressedUpdates());
+
+        board.updateLines("a", "b", "c", "e");
+        plugin.tick();
+        plugin.tick();
+        assertNull(board.getLineAnimation(3));
+        assertEquals(Arrays.asList("a", "b", "c", "e"), board.getLines());
+        assertEquals(board.getLines(), client.receive().lines());
+        assertEquals(0, client.errors());
+        manager.close();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkCreationTest {
+
+    @Test
+    void createAllGivesEachPlayerItsOwnBoard() throws Exception {
+        List<ScoreboardClient> clients = clients(5);
+        List<Player> players = players(clients);
+
+        List<FastBoard> boards = FastBoardBase.createAll(players, FastBoard::new, "title", Arrays.asList("a", "b", "c"))
+                .get(10, TimeUnit.SECONDS);
+
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < boards.size(); i++) {
+            assertSame(players.get(i), boards.get(i).getPlayer());
+            assertEquals(Arrays.asList("a", "b", "c"), clients.get(i).receive().lines());
+            ids.add(boards.get(i).getId());
+        }
+        assertEquals(players.size(), ids.size());
+
+        boards.get(1).updateLine(1, "x");
+        boards.get(2).removeLine(0);
+
+        for (int i = 0; i < boards.size(); i++) {
+            assertEquals(boards.get(i).getLines(), clients.get(i).receive().lines());
+            assertEquals(0, clients.get(i).errors());
+        }
+        assertNotEquals(boards.get(1).getLines(), boards.get(2).getLines());
+    }
+
+    @Test
+    void failedCreationSendsNothing() {
+        List<ScoreboardClient> clients = clients(3);
+        List<String> lines = Collections.nCopies(100, "line");
+        List<FastBoard> created = new ArrayList<>();
+
+        CompletableFuture<List<FastBoard>> future = FastBoardBase.createAll(players(clients), player -> {
+            FastBoard board = new FastBoard(player);
+            created.add(board);
+            return board;
+        }, "title", lines);
+
+        assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertEquals(1, created.size());
+        assertTrue(created.get(0).isDeleted());
+
+        for (ScoreboardClient client : clients) {
+            assertEquals(0, client.receive().receivedPackets());
+            assertNull(client.objective());
+        }
+    }
+
+    @Test
+    void eachBoardRecordsItsPackets() throws Exception {
+        ScoreboardClient single = new ScoreboardClient();
+        FastBoard singleBoard = new FastBoard(single.getPlayer());
+        singleBoard.updateTitle("title");
+        singleBoard.updateLines("a", "b", "c");
+        FastBoardMetrics.Snapshot expected = singleBoard.getMetrics().snapshot();
+
+        List<ScoreboardClient> clients = clients(3);
+        List<FastBoard> boards = FastBoardBase.createAll(players(clients), FastBoard::new, "title", Arrays.asList("a", "b", "c"))
+                .get(10, TimeUnit.SECONDS);
+
+        // Each board records the shared packets, like a board created on its own
+        for (FastBoard board : boards) {
+            FastBoardMetrics.Snapshot metrics = board.getMetrics().snapshot();
+
+            for (FastBoardMetrics.PacketType type : FastBoardMetrics.PacketType.values()) {
+                assertEquals(expected.getPacketsSent(type), metrics.getPacketsSent(type), type.name());
+            }
+        }
+        assertEquals(3, expected.getPacketsSent(FastBoardMetrics.PacketType.SCORE));
+    }
+
+    private static List<ScoreboardClient> clients(int count) {
+        List<ScoreboardClient> clients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            clients.add(new ScoreboardClient());
+        }
+        return clients;
+    }
+
+    private static List<Player> players(List<ScoreboardClient> clients) {
+        List<Player> players = new ArrayList<>(clients.size());
+        for (ScoreboardClient client : clients) {
+            players.add(client.getPlayer());
+        }
+        return players;
+    }
+}
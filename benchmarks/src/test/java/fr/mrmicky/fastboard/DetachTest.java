@@ -0,0 +1,60 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DetachTest {
+
+    @Test
+    void attachSendsTheUpdatesMadeWhileDetached() {
+        ScoreboardClient client = new ScoreboardClient();
+        FastBoard board = new FastBoard(client.getPlayer());
+        board.updateLines("a", "b");
+
+        board.detach();
+        board.updateLines("a", "b", "c");
+        board.setLineTemplate(2, LineTemplate.compile("{value}"));
+        board.setVariable("value", "template");
+        assertEquals(Arrays.asList("a", "b"), client.receive().lines());
+
+        ScoreboardClient joined = new ScoreboardClient();
+        board.attach(joined.getPlayer());
+
+        assertSame(joined.getPlayer(), board.getPlayer());
+        assertEquals(Arrays.asList("a", "b", "template"), joined.receive().lines());
+        assertThrows(IllegalStateException.class, () -> board.attach(client.getPlayer()));
+
+        board.updateLine(0, "z");
+        assertEquals(board.getLines(), joined.receive().lines());
+        assertEquals(Arrays.asList("a", "b"), client.receive().lines());
+        assertEquals(0, joined.errors());
+    }
+}
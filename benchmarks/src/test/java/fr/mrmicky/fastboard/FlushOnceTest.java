@@ -0,0 +1,154 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import fr.mrmicky.fastboard.benchmark.StubServer;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Packets are only flushed once per update when they can't be bundled, so the boards are created
+ * in a class loader without the bundle packets, like on servers before 1.19.4. The stub connection
+ * only has the send method of these versions, which always flushes.
+ */
+class FlushOnceTest {
+
+    private static final String BUNDLE_CLASS_PREFIX = "net.minecraft.network.protocol.game.ClientboundBundle";
+
+    @Test
+    void flushesOncePerUpdate() throws Exception {
+        long[] counts = runWithoutBundles(true);
+
+        assertTrue(counts[0] > 1, "writes: " + counts[0]);
+        assertEquals(1, counts[1]);
+        // Written by a task of the event loop, which the embedded channel only runs once asked to
+        assertEquals(0, counts[2]);
+    }
+
+    @Test
+    void flushesEachPacketByDefault() throws Exception {
+        long[] counts = runWithoutBundles(false);
+
+        assertTrue(counts[0] > 1, "writes: " + counts[0]);
+        assertEquals(counts[0], counts[1]);
+    }
+
+    private static long[] runWithoutBundles(boolean flushOnce) throws Exception {
+        try (URLClassLoader loader = new WithoutBundlesClassLoader()) {
+            Class<?> scenario = Class.forName(Scenario.class.getName(), true, loader);
+            return (long[]) scenario.getMethod("run", boolean.class).invoke(null, flushOnce);
+        }
+    }
+
+    /**
+     * Updates a board with a new player, and returns the number of packets written and flushed
+     * to its channel during the update, and the number of packets written before the pending tasks
+     * of the event loop are run.
+     */
+    public static final class Scenario {
+
+        public static long[] run(boolean flushOnce) {
+            WriteCounter counter = new WriteCounter();
+            // The player is created first, as creating the board resolves the server classes
+            EmbeddedChannel channel = new EmbeddedChannel(counter);
+            Player player = StubServer.createPlayer(channel);
+
+            FastBoard board = new FastBoard(player) {
+                @Override
+                protected boolean flushOncePerUpdate() {
+                    return flushOnce;
+                }
+            };
+
+            channel.runPendingTasks();
+            counter.writes = 0;
+            counter.flushes = 0;
+            board.updateLines("a", "b", "c");
+
+            long writesBeforeTasks = counter.writes;
+            channel.runPendingTasks();
+            return new long[]{counter.writes, counter.flushes, writesBeforeTasks};
+        }
+    }
+
+    private static final class WriteCounter extends ChannelOutboundHandlerAdapter {
+
+        private long writes;
+        private long flushes;
+
+        @Override
+        public void write(ChannelHandlerContext context, Object message, ChannelPromise promise) throws Exception {
+            this.writes++;
+            super.write(context, message, promise);
+        }
+
+        @Override
+        public void flush(ChannelHandlerContext context) throws Exception {
+            this.flushes++;
+            super.flush(context);
+        }
+    }
+
+    /**
+     * Loads the classes of the test class path again, except the bundle packets.
+     */
+    private static final class WithoutBundlesClassLoader extends URLClassLoader {
+
+        WithoutBundlesClassLoader() throws MalformedURLException {
+            super(classPath(), null);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith(BUNDLE_CLASS_PREFIX)) {
+                throw new ClassNotFoundException(name);
+            }
+            return super.loadClass(name, resolve);
+        }
+
+        private static URL[] classPath() throws MalformedURLException {
+            String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+            List<URL> urls = new ArrayList<>();
+
+            for (String entry : classPath.split(File.pathSeparator)) {
+                urls.add(new File(entry).toURI().toURL());
+            }
+            return urls.toArray(new URL[0]);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HiddenScoresTest {
+
+    @Test
+    void scoresFollowTheLinesByDefault() {
+        ScoreboardClient client = new ScoreboardClient();
+        FastBoard board = new FastBoard(client.getPlayer());
+        board.updateLines("a", "b", "c");
+        client.receive();
+
+        // The score values stay the line positions, as pre-1.20.3 clients display them
+        assertEquals(Arrays.asList(2, 1, 0), scores(client, client.entries()));
+
+        board.insertLine(1, "inserted");
+        client.receive();
+        assertEquals(Arrays.asList(3, 2, 1, 0), scores(client, client.entries()));
+
+        board.removeLine(0);
+        assertEquals(Arrays.asList("inserted", "b", "c"), client.receive().lines());
+        assertEquals(Arrays.asList(2, 1, 0), scores(client, client.entries()));
+        assertEquals(0, client.errors());
+    }
+
+    @Test
+    void hiddenScoreSlotsSurviveInsertAndRemove() {
+        ScoreboardClient client = new ScoreboardClient();
+        FastBoard board = new FastBoard(client.getPlayer()) {
+            @Override
+            protected boolean hasHiddenScores() {
+                return true;
+            }
+        };
+        board.updateLines("a", "b", "c", "d");
+        List<String> entries = client.receive().entries();
+        List<Integer> scores = scores(client, entries);
+
+        board.insertLine(2, "inserted");
+        board.insertLine(0, "top");
+        board.appendLine("bottom");
+
+        assertEquals(board.getLines(), client.receive().lines());
+        List<String> moved = new ArrayList<>(client.entries());
+        moved.remove(6);
+        moved.remove(3);
+        moved.remove(0);
+        // The existing lines keep their slot and score, only the inserted lines are sent
+        assertEquals(entries, moved);
+        assertEquals(scores, scores(client, moved));
+
+        board.removeLine(3);
+        board.removeLine(0);
+        board.removeLine(1);
+
+        assertEquals(Arrays.asList("a", "c", "d", "bottom"), client.receive().lines());
+        List<String> kept = new ArrayList<>(entries);
+        List<Integer> keptScores = new ArrayList<>(scores);
+        kept.remove(1);
+        keptScores.remove(1);
+        assertEquals(kept, client.entries().subList(0, 3));
+        assertEquals(keptScores, scores(client, kept));
+        assertEquals(0, client.errors());
+    }
+
+    private static List<Integer> scores(ScoreboardClient client, List<String> entries) {
+        List<Integer> scores = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            scores.add(client.score(entry));
+        }
+        return scores;
+    }
+}
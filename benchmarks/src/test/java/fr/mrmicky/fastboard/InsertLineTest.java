@@ -0,0 +1,77 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InsertLineTest {
+
+    @Test
+    void insertLineMovesTheLinesBelow() {
+        ScoreboardClient client = new ScoreboardClient();
+        FastBoard board = new FastBoard(client.getPlayer());
+
+        for (int i = 0; i < 5; i++) {
+            board.appendLine("line " + i);
+        }
+        LineTemplate template = LineTemplate.compile("health {health}");
+        board.setLineTemplate(3, template);
+        board.setVariable("health", 20);
+
+        board.insertLine(1, "inserted");
+        board.insertLine(0, "top");
+        board.insertLine(board.size(), "bottom");
+
+        assertEquals(Arrays.asList("top", "line 0", "inserted", "line 1", "line 2", "health 20", "line 4", "bottom"), board.getLines());
+        assertSame(template, board.getLineTemplate(5));
+        assertEquals(board.getLines(), client.receive().lines());
+
+        board.setVariable("health", 19);
+        assertEquals("health 19", board.getLine(5));
+        assertEquals(board.getLines(), client.receive().lines());
+        assertEquals(0, client.errors());
+    }
+
+    @Test
+    void insertLineOutOfRangeChangesNothing() {
+        ScoreboardClient client = new ScoreboardClient();
+        FastBoard board = new FastBoard(client.getPlayer());
+        board.updateLines("a", "b");
+        board.setLineTemplate(1, LineTemplate.compile("{value}"));
+
+        assertThrows(IllegalArgumentException.class, () -> board.insertLine(3, "c"));
+        assertThrows(IllegalArgumentException.class, () -> board.insertLine(-1, "c"));
+
+        assertEquals(Arrays.asList("a", "{value}"), board.getLines());
+        assertNull(board.getLineTemplate(2));
+        assertEquals(board.getLines(), client.receive().lines());
+    }
+}
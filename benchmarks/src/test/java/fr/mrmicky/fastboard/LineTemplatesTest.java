@@ -0,0 +1,63 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LineTemplatesTest {
+
+    @Test
+    void shrinkingTheLinesRemovesTheirTemplates() {
+        ScoreboardClient client = new ScoreboardClient();
+        FastBoard board = new FastBoard(client.getPlayer());
+        LineTemplate health = LineTemplate.compile("health {health}");
+
+        board.updateLines("a", "b", "c", "d", "e", "f");
+        board.setLineTemplate(1, health);
+        board.setLineTemplate(5, LineTemplate.compile("coins {coins}"));
+        board.setVariable("health", 20);
+        board.setVariable("coins", 10);
+        assertEquals(Arrays.asList("a", "health 20", "c", "d", "e", "coins 10"), client.receive().lines());
+
+        board.updateLines("a", "b", "c");
+        assertSame(health, board.getLineTemplate(1));
+        assertNull(board.getLineTemplate(5));
+        assertEquals(Arrays.asList("a", "health 20", "c"), client.receive().lines());
+
+        // The removed template is neither rendered again nor applied when the board grows back
+        board.setVariable("coins", 11);
+        board.updateLines("a", "b", "c", "d", "e", "f");
+        assertEquals(Arrays.asList("a", "health 20", "c", "d", "e", "f"), client.receive().lines());
+
+        board.setVariable("health", 19);
+        assertEquals(Arrays.asList("a", "health 19", "c", "d", "e", "f"), client.receive().lines());
+        assertEquals(0, client.errors());
+    }
+}
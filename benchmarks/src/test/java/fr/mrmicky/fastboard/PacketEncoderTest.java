@@ -0,0 +1,171 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import net.minecraft.network.protocol.Packet;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PacketEncoderTest {
+
+    @Test
+    void sharedBoardIsEncodedOnce() {
+        List<ScoreboardClient> clients = createClients(3);
+        FastBoard board = createSharedBoard(clients, PacketEncoder.netty());
+
+        int encodedPackets = encodedPackets(clients);
+        int updatePackets = receiveUpdate(clients, () -> board.updateLines("a", "b", "c"));
+
+        for (ScoreboardClient client : clients) {
+            assertEquals(Arrays.asList("a", "b", "c"), client.lines());
+            assertEquals(0, client.errors());
+        }
+        assertEquals(updatePackets, encodedPackets(clients) - encodedPackets);
+    }
+
+    @Test
+    void sharedBoardIsEncodedForEachViewerByDefault() {
+        List<ScoreboardClient> clients = createClients(3);
+        FastBoard board = createSharedBoard(clients, null);
+
+        int encodedPackets = encodedPackets(clients);
+        int updatePackets = receiveUpdate(clients, () -> board.updateLines("a", "b", "c"));
+
+        for (ScoreboardClient client : clients) {
+            assertEquals(Arrays.asList("a", "b", "c"), client.lines());
+        }
+        assertEquals(updatePackets * clients.size(), encodedPackets(clients) - encodedPackets);
+    }
+
+    @Test
+    void packetsAreWrittenOnTheEventLoop() {
+        List<ScoreboardClient> clients = createClients(3);
+        FastBoard board = createSharedBoard(clients, PacketEncoder.netty());
+
+        board.updateLines("a", "b", "c");
+
+        for (ScoreboardClient client : clients) {
+            // The embedded event loop only runs its tasks once asked to
+            assertTrue(client.getChannel().outboundMessages().isEmpty());
+            assertEquals(Arrays.asList("a", "b", "c"), client.receive().lines());
+        }
+    }
+
+    @Test
+    void channelsWithPluginHandlersAreSentNormally() {
+        List<ScoreboardClient> clients = createClients(3);
+        FastBoard board = createSharedBoard(clients, PacketEncoder.netty());
+        PacketListener listener = new PacketListener();
+        ScoreboardClient translated = clients.get(1);
+        translated.getChannel().pipeline().addLast("listener", listener);
+
+        int encodedPackets = encodedPackets(clients);
+        int translatedEncodedPackets = translated.getEncoder().getEncodedPackets();
+        int updatePackets = receiveUpdate(clients, () -> board.updateLines("a", "b", "c"));
+
+        for (ScoreboardClient client : clients) {
+            assertEquals(Arrays.asList("a", "b", "c"), client.lines());
+        }
+        assertTrue(listener.packets > 0);
+        // Encoded once for the two other clients, and once more by the encoder of the translated client
+        assertEquals(updatePackets, translated.getEncoder().getEncodedPackets() - translatedEncodedPackets);
+        assertEquals(updatePackets * 2, encodedPackets(clients) - encodedPackets);
+    }
+
+    static List<ScoreboardClient> createClients(int count) {
+        List<ScoreboardClient> clients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            clients.add(new ScoreboardClient());
+        }
+        return clients;
+    }
+
+    static FastBoard createSharedBoard(List<ScoreboardClient> clients, PacketEncoder encoder) {
+        FastBoard board = new FastBoard(clients.get(0).getPlayer()) {
+            @Override
+            protected PacketEncoder packetEncoder() {
+                return encoder;
+            }
+        };
+
+        for (ScoreboardClient client : clients) {
+            board.addViewer(client.getPlayer());
+            client.receive();
+        }
+        return board;
+    }
+
+    /**
+     * Runs an update and checks that each client received the same number of packets.
+     *
+     * @return the number of packets received by each client
+     */
+    static int receiveUpdate(List<ScoreboardClient> clients, Runnable update) {
+        int[] received = new int[clients.size()];
+        for (int i = 0; i < clients.size(); i++) {
+            received[i] = clients.get(i).receivedPackets();
+        }
+
+        update.run();
+
+        int updatePackets = clients.get(0).receive().receivedPackets() - received[0];
+        for (int i = 1; i < clients.size(); i++) {
+            assertEquals(updatePackets, clients.get(i).receive().receivedPackets() - received[i]);
+        }
+        return updatePackets;
+    }
+
+    /**
+     * Handler added by a plugin, seeing the packets written to the channel.
+     */
+    private static final class PacketListener extends ChannelOutboundHandlerAdapter {
+
+        private int packets;
+
+        @Override
+        public void write(ChannelHandlerContext context, Object message, ChannelPromise promise) throws Exception {
+            if (message instanceof Packet) {
+                this.packets++;
+            }
+            super.write(context, message, promise);
+        }
+    }
+
+    static int encodedPackets(List<ScoreboardClient> clients) {
+        int encodedPackets = 0;
+        for (ScoreboardClient client : clients) {
+            encodedPackets += client.getEncoder().getEncodedPackets();
+        }
+        return encodedPackets;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PausedViewersTest {
+
+    @Test
+    void pausedViewerOnlyReceivesTheLatestState() {
+        ScoreboardClient owner = new ScoreboardClient();
+        ScoreboardClient viewer = new ScoreboardClient();
+        Set<Player> slowViewers = new HashSet<>();
+
+        FastBoard board = new FastBoard(owner.getPlayer(), sink -> new PacketSink() {
+            @Override
+            public void sendPackets(Player player, List<Object> packets) throws Throwable {
+                sink.sendPackets(player, packets);
+            }
+
+            @Override
+            public void sendPackets(Collection<Player> players, List<Object> packets) throws Throwable {
+                sink.sendPackets(players, packets);
+            }
+
+            @Override
+            public boolean isReady(Player player) throws Throwable {
+                return !slowViewers.contains(player) && sink.isReady(player);
+            }
+
+            @Override
+            public void removeViewer(Player player) {
+                sink.removeViewer(player);
+            }
+        }) {
+            @Override
+            protected boolean pauseSlowViewers() {
+                return true;
+            }
+        };
+        board.addViewer(viewer.getPlayer());
+        board.updateLines("a", "b", "c");
+        assertEquals(board.getLines(), viewer.receive().lines());
+
+        slowViewers.add(viewer.getPlayer());
+        board.updateLines("a", "b", "c", "d", "e");
+        board.updateLines("e", "d");
+        board.updateLine(0, "f");
+
+        assertEquals(Arrays.asList("a", "b", "c"), viewer.receive().lines());
+        assertEquals(board.getLines(), owner.receive().lines());
+
+        int ownerReceived = owner.receivedPackets();
+        int viewerReceived = viewer.receivedPackets();
+        slowViewers.remove(viewer.getPlayer());
+        board.updateTitle("title");
+
+        assertEquals(board.getLines(), viewer.receive().lines());
+        // The viewer skipped the intermediate states, the owner only received the new title
+        assertEquals(ownerReceived + 1, owner.receive().receivedPackets());
+        assertTrue(viewer.receivedPackets() - viewerReceived < ownerReceived, "packets: " + viewer.receivedPackets());
+
+        slowViewers.add(viewer.getPlayer());
+        board.updateLines("g", "h", "i");
+        board.delete();
+
+        assertEquals(Collections.emptyList(), owner.receive().lines());
+        assertEquals(0, owner.teams());
+        assertEquals(0, viewer.receive().teams());
+        assertNull(viewer.objective());
+        assertEquals(0, owner.errors());
+        assertEquals(0, viewer.errors());
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import fr.mrmicky.fastboard.benchmark.StubServer;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import net.minecraft.network.PacketEncoder;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.Packet;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Stand-in client of a player, decoding the bytes written to the player channel and keeping
+ * the scoreboard it would display. Packets the real client would reject are counted as errors.
+ */
+final class ScoreboardClient {
+
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+    private final PacketEncoder encoder = new PacketEncoder();
+    private final Player player;
+
+    private final Map<String, Integer> scores = new HashMap<>();
+    private final Map<String, String> teamTexts = new HashMap<>();
+    private final Map<String, String> teamEntries = new HashMap<>();
+    private String objective;
+    private int receivedPackets;
+    private int errors;
+
+    ScoreboardClient() {
+        this.channel.pipeline().addLast("encoder", this.encoder);
+        this.player = StubServer.createPlayer(this.channel);
+    }
+
+    Player getPlayer() {
+        return this.player;
+    }
+
+    EmbeddedChannel getChannel() {
+        return this.channel;
+    }
+
+    PacketEncoder getEncoder() {
+        return this.encoder;
+    }
+
+    /**
+     * Receives the packets written to the channel since the last call.
+     *
+     * @return this client
+     */
+    ScoreboardClient receive() {
+        this.channel.runPendingTasks();
+
+        for (Object message; (message = this.channel.readOutbound()) != null; ) {
+            ByteBuf buffer = (ByteBuf) message;
+
+            try {
+                while (buffer.isReadable()) {
+                    handle(PacketEncoder.decode(buffer));
+                }
+            } finally {
+                buffer.release();
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Returns the displayed lines, from the highest score to the lowest.
+     *
+     * @return the lines of the scoreboard, or an empty list if no objective is displayed
+     */
+    List<String> lines() {
+        Map<String, String> entryTexts = new HashMap<>();
+        this.teamEntries.forEach((team, entry) -> entryTexts.put(entry, this.teamTexts.get(team)));
+
+        List<String> entries = entries();
+        List<String> lines = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            lines.add(entryTexts.getOrDefault(entry, entry));
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the score holders of the displayed lines, from the highest score to the lowest.
+     *
+     * @return the score holders of the lines
+     */
+    List<String> entries() {
+        List<String> entries = new ArrayList<>(this.scores.keySet());
+        entries.sort(Comparator.comparing(this.scores::get, Comparator.reverseOrder()));
+        return entries;
+    }
+
+    Integer score(String entry) {
+        return this.scores.get(entry);
+    }
+
+    String objective() {
+        return this.objective;
+    }
+
+    int teams() {
+        return this.teamTexts.size();
+    }
+
+    int receivedPackets() {
+        return this.receivedPackets;
+    }
+
+    int errors() {
+        return this.errors;
+    }
+
+    private void handle(Packet<?> packet) {
+        this.receivedPackets++;
+
+        switch (packet.getClass().getSimpleName()) {
+            case "ClientboundSetObjectivePacket":
+                handleObjective(field(packet, "objectiveName"), field(packet, "method"));
+                break;
+            case "ClientboundSetScorePacket":
+                checkObjective(field(packet, "objectiveName"));
+                this.scores.put(field(packet, "owner"), field(packet, "score"));
+                break;
+            case "ClientboundResetScorePacket":
+                checkObjective(field(packet, "objectiveName"));
+                this.scores.remove(field(packet, "owner"));
+                break;
+            case "ClientboundSetPlayerTeamPacket":
+                handleTeam(field(packet, "name"), field(packet, "method"), field(packet, "parameters"), field(packet, "players"));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void handleObjective(String name, int method) {
+        if (method == 0) {
+            if (this.objective != null) {
+                this.errors++;
+            }
+            this.objective = name;
+        } else if (!name.equals(this.objective)) {
+            this.errors++;
+        } else if (method == 1) {
+            this.objective = null;
+            this.scores.clear();
+        }
+    }
+
+    private void handleTeam(String name, int method, Optional<?> parameters, Collection<String> players) {
+        if (method == 1) {
+            if (this.teamTexts.remove(name) == null) {
+                this.errors++;
+            }
+            this.teamEntries.remove(name);
+            return;
+        }
+
+        if (method == 0 == this.teamTexts.containsKey(name)) {
+            this.errors++;
+        }
+
+        if (method == 0) {
+            this.teamTexts.put(name, "");
+            this.teamEntries.put(name, players.iterator().next());
+        }
+
+        if (parameters.isPresent()) {
+            Component prefix = field(parameters.get(), "playerPrefix");
+            Component suffix = field(parameters.get(), "playerSuffix");
+            this.teamTexts.put(name, text(prefix) + text(suffix));
+        }
+    }
+
+    private void checkObjective(String name) {
+        if (!name.equals(this.objective)) {
+            this.errors++;
+        }
+    }
+
+    private static String text(Component component) {
+        if (component == null) {
+            return "";
+        }
+
+        StringBuilder text = new StringBuilder(component.getContents());
+        for (Component sibling : component.getSiblings()) {
+            text.append(text(sibling));
+        }
+        return text.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T field(Object instance, String name) {
+        try {
+            Field field = instance.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            return (T) field.get(instance);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Unable to read " + name + " of " + instance.getClass(), e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import org.bukkit.Server;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+
+/**
+ * Stand-in plugin whose repeating tasks are only run by {@link #tick()}, so the tests control
+ * when a {@link FastBoardManager} advances its animations and sends its boards.
+ */
+final class TickingPlugin {
+
+    private final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+    private final Logger logger = Logger.getLogger("FastBoardTest");
+    private final Plugin plugin;
+
+    TickingPlugin() {
+        BukkitScheduler scheduler = proxy(BukkitScheduler.class, (name, args) -> {
+            if (!name.equals("runTaskTimer")) {
+                throw new UnsupportedOperationException(name);
+            }
+
+            Runnable task = (Runnable) args[1];
+            this.tasks.add(task);
+            return proxy(BukkitTask.class, (taskMethod, taskArgs) -> {
+                if (!taskMethod.equals("cancel")) {
+                    throw new UnsupportedOperationException(taskMethod);
+                }
+                this.tasks.remove(task);
+                return null;
+            });
+        });
+        Server server = proxy(Server.class, (name, args) -> {
+            if (!name.equals("getScheduler")) {
+                throw new UnsupportedOperationException(name);
+            }
+            return scheduler;
+        });
+
+        this.plugin = proxy(Plugin.class, (name, args) -> {
+            switch (name) {
+                case "getServer":
+                    return server;
+                case "getLogger":
+                    return this.logger;
+                default:
+                    throw new UnsupportedOperationException(name);
+            }
+        });
+    }
+
+    Plugin getPlugin() {
+        return this.plugin;
+    }
+
+    /**
+     * Runs the repeating tasks once, like a server tick.
+     */
+    void tick() {
+        for (Runnable task : this.tasks) {
+            task.run();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName();
+                default:
+                    return handler.invoke(method.getName(), args);
+            }
+        }));
+    }
+
+    private interface Handler {
+
+        Object invoke(String method, Object[] args);
+    }
+}
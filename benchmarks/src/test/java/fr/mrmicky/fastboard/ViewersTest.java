@@ -0,0 +1,120 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import fr.mrmicky.fastboard.benchmark.StubServer;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ViewersTest {
+
+    @Test
+    void addViewerSendsTheCurrentScoreboard() {
+        ScoreboardClient owner = new ScoreboardClient();
+        ScoreboardClient viewer = new ScoreboardClient();
+        FastBoard board = new FastBoard(owner.getPlayer());
+        board.updateTitle("title");
+        board.updateLines("a", "b", "c");
+
+        board.addViewer(viewer.getPlayer());
+        assertEquals(board.getLines(), viewer.receive().lines());
+        assertEquals(board.getId(), viewer.objective());
+
+        board.updateLines("c", "b");
+        assertEquals(board.getLines(), owner.receive().lines());
+        assertEquals(board.getLines(), viewer.receive().lines());
+
+        board.removeViewer(viewer.getPlayer());
+        board.updateLines("d");
+        assertEquals(Collections.emptyList(), viewer.receive().lines());
+        assertNull(viewer.objective());
+        assertEquals(0, viewer.teams());
+        assertEquals(board.getLines(), owner.receive().lines());
+        assertEquals(0, owner.errors());
+        assertEquals(0, viewer.errors());
+    }
+
+    @Test
+    void viewersCantBeChangedOnceDeleted() {
+        ScoreboardClient owner = new ScoreboardClient();
+        ScoreboardClient viewer = new ScoreboardClient();
+        FastBoard board = new FastBoard(owner.getPlayer());
+        board.updateLines("a", "b");
+        board.addViewer(viewer.getPlayer());
+        board.delete();
+
+        ScoreboardClient other = new ScoreboardClient();
+        assertThrows(IllegalStateException.class, () -> board.addViewer(other.getPlayer()));
+        assertThrows(IllegalStateException.class, () -> board.removeViewer(viewer.getPlayer()));
+
+        assertEquals(Arrays.asList(owner.getPlayer(), viewer.getPlayer()), board.getViewers());
+        assertEquals(0, other.receive().receivedPackets());
+        assertEquals(0, viewer.receive().errors());
+    }
+
+    @Test
+    void offlineViewersAreRemoved() {
+        ScoreboardClient owner = new ScoreboardClient();
+        ScoreboardClient viewer = new ScoreboardClient();
+        List<Player> removedViewers = new ArrayList<>();
+
+        FastBoard board = new FastBoard(owner.getPlayer(), sink -> new PacketSink() {
+            @Override
+            public void sendPackets(Player player, List<Object> packets) throws Throwable {
+                sink.sendPackets(player, packets);
+            }
+
+            @Override
+            public void removeViewer(Player player) {
+                removedViewers.add(player);
+                sink.removeViewer(player);
+            }
+        });
+        board.addViewer(viewer.getPlayer());
+        board.updateLines("a", "b");
+        int received = viewer.receive().receivedPackets();
+
+        StubServer.disconnect(viewer.getPlayer());
+        board.updateLines("c");
+
+        assertEquals(Collections.singletonList(owner.getPlayer()), board.getViewers());
+        assertEquals(Collections.singletonList(viewer.getPlayer()), removedViewers);
+        assertEquals(received, viewer.receive().receivedPackets());
+
+        // The player joins again, with a new player object
+        ScoreboardClient joined = new ScoreboardClient();
+        board.addViewer(joined.getPlayer());
+        assertEquals(Collections.singletonList("c"), joined.receive().lines());
+        assertEquals(Arrays.asList(owner.getPlayer(), joined.getPlayer()), board.getViewers());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.minecraft.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundBundleDelimiterPacket;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stand-in for the packet encoder of the player channels. Each packet is written as its index
+ * in a registry shared by all the encoders, so the bytes can be decoded back to the same packet
+ * by the test clients. Bundles are written as their packets between two bundle delimiters.
+ */
+public class PacketEncoder extends MessageToByteEncoder<Packet<?>> {
+
+    private static final List<Packet<?>> PACKETS = new ArrayList<>();
+
+    private final AtomicInteger encodedPackets = new AtomicInteger();
+
+    /**
+     * Reads the next packet written by an encoder.
+     *
+     * @param buffer the encoded bytes
+     * @return the decoded packet
+     */
+    public static Packet<?> decode(ByteBuf buffer) {
+        int index = buffer.readInt();
+
+        synchronized (PACKETS) {
+            return PACKETS.get(index);
+        }
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext context, Packet<?> packet, ByteBuf out) {
+        if (packet instanceof ClientboundBundlePacket) {
+            encode(context, new ClientboundBundleDelimiterPacket(), out);
+
+            for (Packet<?> subPacket : ((ClientboundBundlePacket) packet).subPackets()) {
+                encode(context, subPacket, out);
+            }
+
+            encode(context, new ClientboundBundleDelimiterPacket(), out);
+            return;
+        }
+
+        synchronized (PACKETS) {
+            out.writeInt(PACKETS.size());
+            PACKETS.add(packet);
+        }
+
+        this.encodedPackets.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of packets encoded by this encoder, without the bundles.
+     *
+     * @return the number of encoded packets
+     */
+    public int getEncodedPackets() {
+        return this.encodedPackets.get();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable sequence of frames displayed by an animated title or line, each for a number of ticks.
+ * <p>
+ * The frames are converted to Minecraft components once, when the animation is first displayed,
+ * and the converted components are shared by all the boards displaying the same animation.
+ * The boards are advanced by their {@link FastBoardManager}, which only sends the title or lines
+ * whose frame changed.
+ *
+ * @param <T> the type of the frames
+ * @author MrMicky
+ */
+public final class Animation<T> {
+
+    private final List<T> frames;
+    private final int[] frameTicks;
+    private final int totalTicks;
+
+    // Components of the frames and of their parts, like the prefix and suffix of legacy lines
+    private final Map<T, Object> components = new ConcurrentHashMap<>();
+    private final int maximumComponents;
+
+    private Animation(List<T> frames, int[] frameTicks) {
+        if (frames.isEmpty()) {
+            throw new IllegalArgumentException("An animation must have at least one frame");
+        }
+
+        if (frames.size() != frameTicks.length) {
+            throw new IllegalArgumentException("The number of durations must match the number of frames");
+        }
+
+        int totalTicks = 0;
+        for (int ticks : frameTicks) {
+            if (ticks <= 0) {
+                throw new IllegalArgumentException("Frame duration must be positive");
+            }
+            totalTicks += ticks;
+        }
+
+        for (T frame : frames) {
+            Objects.requireNonNull(frame, "frame");
+        }
+
+        this.frames = Collections.unmodifiableList(new ArrayList<>(frames));
+        this.frameTicks = frameTicks;
+        this.totalTicks = totalTicks;
+        this.maximumComponents = frames.size() * 3 + 16;
+    }
+
+    /**
+     * Creates an animation displaying each frame for the same number of ticks.
+     *
+     * @param ticksPerFrame the number of ticks each frame is displayed
+     * @param frames        the frames of the animation
+     * @param <T>           the type of the frames
+     * @return the new animation
+     * @throws IllegalArgumentException if there is no frame, or if the duration is not positive
+     */
+    @SafeVarargs
+    public static <T> Animation<T> of(int ticksPerFrame, T... frames) {
+        Objects.requireNonNull(frames, "frames");
+
+        List<T> frameList = new ArrayList<>(frames.length);
+        for (T frame : frames) {
+            frameList.add(frame);
+        }
+        return of(ticksPerFrame, frameList);
+    }
+
+    /**
+     * Creates an animation displaying each frame for the same number of ticks.
+     *
+     * @param ticksPerFrame the number of ticks each frame is displayed
+     * @param frames        the frames of the animation
+     * @param <T>           the type of the frames
+     * @return the new animation
+     * @throws IllegalArgumentException if there is no frame, or if the duration is not positive
+     */
+    public static <T> Animation<T> of(int ticksPerFrame, List<T> frames) {
+        Objects.requireNonNull(frames, "frames");
+
+        int[] frameTicks = new int[frames.size()];
+        Arrays.fill(frameTicks, ticksPerFrame);
+        return new Animation<>(frames, frameTicks);
+    }
+
+    /**
+     * Creates an animation displaying each frame for its own number of ticks.
+     *
+     * @param frames     the frames of the animation
+     * @param frameTicks the number of ticks each frame is displayed
+     * @param <T>        the type of the frames
+     * @return the new animation
+     * @throws IllegalArgumentException if there is no frame, if a duration is not positive,
+     *                                  or if the number of durations doesn't match the number of frames
+     */
+    public static <T> Animation<T> of(List<T> frames, int... frameTicks) {
+        Objects.requireNonNull(frames, "frames");
+        Objects.requireNonNull(frameTicks, "frameTicks");
+
+        return new Animation<>(frames, frameTicks.clone());
+    }
+
+    /**
+     * Returns the frames of this animation.
+     *
+     * @return the frames
+     */
+    public List<T> getFrames() {
+        return this.frames;
+    }
+
+    /**
+     * Returns the number of frames of this animation.
+     *
+     * @return the number of frames
+     */
+    public int size() {
+        return this.frames.size();
+    }
+
+    /**
+     * Returns the number of ticks a frame is displayed.
+     *
+     * @param frame the frame index
+     * @return the duration of the frame, in ticks
+     * @throws IndexOutOfBoundsException if the frame index is out of range
+     */
+    public int getFrameTicks(int frame) {
+        return this.frameTicks[frame];
+    }
+
+    /**
+     * Returns the number of ticks of a full cycle of this animation.
+     *
+     * @return the duration of the animation, in ticks
+     */
+    public int getTotalTicks() {
+        return this.totalTicks;
+    }
+
+    T frame(int frame) {
+        return this.frames.get(frame);
+    }
+
+    /**
+     * Converts all the frames, so they don't need to be converted while the animation is running.
+     */
+    void precompute(FastBoardBase<T> board) throws Throwable {
+        for (T frame : this.frames) {
+            component(board, frame);
+        }
+    }
+
+    /**
+     * Returns the component of a frame or of a part of a frame, converting it with the board on the first use.
+     * Values that are not part of this animation are converted but only cached while there is room,
+     * so a line replaced while being animated can't make the cache grow.
+     */
+    Object component(FastBoardBase<T> board, T value) throws Throwable {
+        if (value == null) {
+            return board.minecraftComponent(null);
+        }
+
+        Object component = this.components.get(value);
+
+        if (component == null) {
+            component = board.minecraftComponent(value);
+
+            if (this.components.size() < this.maximumComponents) {
+                this.components.putIfAbsent(value, component);
+            }
+        }
+        return component;
+    }
+}
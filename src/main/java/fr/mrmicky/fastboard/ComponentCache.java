@@ -0,0 +1,211 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded and thread-safe cache of Minecraft chat components, to avoid converting
+ * the same line values again and again.
+ * <p>
+ * The cache is split in segments, each evicting its least recently used entries,
+ * so concurrent boards rarely contend on the same lock.
+ * <p>
+ * Caching is optional and disabled by default: a cache must be set with the
+ * {@code setComponentCache} method of the board class to use. It keeps up to its
+ * maximum size of values and their components in memory until they are evicted.
+ *
+ * @param <K> the type of the cached values
+ * @author MrMicky
+ */
+public final class ComponentCache<K> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<K>[] segments;
+    private final int maximumSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumSize the maximum number of cached components
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public ComponentCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maximumSize));
+        int segmentSize = (maximumSize + segmentCount - 1) / segmentCount;
+
+        this.maximumSize = maximumSize;
+        this.segments = (Segment<K>[]) new Segment<?>[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment<>(segmentSize, this.evictions);
+        }
+    }
+
+    /**
+     * Returns the cached component of a value.
+     *
+     * @param key the value
+     * @return the cached component, or null if the value is not cached
+     */
+    public Object get(K key) {
+        Segment<K> segment = segment(key);
+        Object component;
+
+        synchronized (segment) {
+            component = segment.get(key);
+        }
+
+        (component != null ? this.hits : this.misses).increment();
+        return component;
+    }
+
+    /**
+     * Caches the component of a value, possibly evicting the least recently used component.
+     *
+     * @param key       the value
+     * @param component the Minecraft component of the value
+     */
+    public void put(K key, Object component) {
+        Segment<K> segment = segment(key);
+
+        synchronized (segment) {
+            segment.put(key, component);
+        }
+    }
+
+    /**
+     * Removes all the cached components. The statistics are not reset.
+     */
+    public void clear() {
+        for (Segment<K> segment : this.segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached components.
+     *
+     * @return the size of the cache
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K> segment : this.segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of cached components.
+     *
+     * @return the maximum size of the cache
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Returns the number of lookups that found a cached component.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that didn't find a cached component.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the number of components evicted because the cache was full.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Returns the ratio of lookups that found a cached component, or 1 if there was no lookup.
+     *
+     * @return the hit rate, between 0 and 1
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    private Segment<K> segment(K key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return this.segments[hash & (this.segments.length - 1)];
+    }
+
+    private static final class Segment<K> extends LinkedHashMap<K, Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maximumSize;
+        private final LongAdder evictions;
+
+        Segment(int maximumSize, LongAdder evictions) {
+            super(16, 0.75F, true);
+            this.maximumSize = maximumSize;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Object> eldest) {
+            if (size() <= this.maximumSize) {
+                return false;
+            }
+
+            this.evictions.increment();
+            return true;
+        }
+    }
+}
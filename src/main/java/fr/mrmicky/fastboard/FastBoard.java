@@ -29,7 +29,9 @@ import org.bukkit.entity.Player;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Array;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 /**
  * String-based implementation of {@link FastBoardBase}.
@@ -39,6 +41,14 @@ public class FastBoard extends FastBoardBase<String> {
     private static final MethodHandle MESSAGE_FROM_STRING;
     private static final Object EMPTY_MESSAGE;
 
+    private static final LegacyLineSplitter LEGACY_SPLITTER = new LegacyLineSplitter(16, 1024);
+    private static final LegacyLineSplitter SPLITTER = new LegacyLineSplitter(1024, 64);
+    private static final String[] EMPTY_LINE_PREFIXES = Arrays.stream(COLOR_CODES)
+            .map(color -> color + ChatColor.RESET)
+            .toArray(String[]::new);
+
+    private static volatile ComponentCache<String> componentCache;
+
     static {
         try {
             MethodHandles.Lookup lookup = MethodHandles.lookup();
@@ -57,6 +67,36 @@ public class FastBoard extends FastBoardBase<String> {
         super(player);
     }
 
+    /**
+     * Creates a new FastBoard, sending its packets through a custom {@link PacketSink}.
+     *
+     * @param player     the owner of the scoreboard
+     * @param packetSink the function receiving the default sink and returning the sink to use,
+     *                   which can wrap or replace the default sink
+     */
+    public FastBoard(Player player, UnaryOperator<PacketSink> packetSink) {
+        super(player, packetSink);
+    }
+
+    /**
+     * Returns the cache shared by all the string-based boards to convert lines to Minecraft components.
+     *
+     * @return the component cache, or null if caching is disabled
+     */
+    public static ComponentCache<String> getComponentCache() {
+        return componentCache;
+    }
+
+    /**
+     * Sets the cache shared by all the string-based boards to convert lines to Minecraft components.
+     * Caching is disabled by default.
+     *
+     * @param cache the component cache, or null to disable caching
+     */
+    public static void setComponentCache(ComponentCache<String> cache) {
+        componentCache = cache;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -95,42 +135,63 @@ public class FastBoard extends FastBoardBase<String> {
         super.updateLines(lines);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if animation is null
+     */
     @Override
-    protected void sendLineChange(int score) throws Throwable {
-        int maxLength = hasLinesMaxLength() ? 16 : 1024;
-        String line = getLineByScore(score);
-        String prefix;
-        String suffix = "";
+    public void animateTitle(Animation<String> animation) {
+        Objects.requireNonNull(animation, "animation");
 
-        if (line == null || line.isEmpty()) {
-            prefix = COLOR_CODES[score] + ChatColor.RESET;
-        } else if (line.length() <= maxLength) {
-            prefix = line;
-        } else {
-            // Prevent splitting color codes
-            int index = line.charAt(maxLength - 1) == ChatColor.COLOR_CHAR
-                    ? (maxLength - 1) : maxLength;
-            prefix = line.substring(0, index);
-            String suffixTmp = line.substring(index);
-            ChatColor chatColor = null;
-
-            if (suffixTmp.length() >= 2 && suffixTmp.charAt(0) == ChatColor.COLOR_CHAR) {
-                chatColor = ChatColor.getByChar(suffixTmp.charAt(1));
+        if (!VersionType.V1_13.isHigherOrEqual()) {
+            for (String frame : animation.getFrames()) {
+                if (frame.length() > 32) {
+                    throw new IllegalArgumentException("Title is longer than 32 chars");
+                }
             }
+        }
+
+        super.animateTitle(animation);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if animation is null
+     */
+    @Override
+    public void animateLine(int line, Animation<String> animation) {
+        Objects.requireNonNull(animation, "animation");
+
+        if (!VersionType.V1_13.isHigherOrEqual()) {
+            for (String frame : animation.getFrames()) {
+                if (frame.length() > 30) {
+                    throw new IllegalArgumentException("Line " + line + " is longer than 30 chars");
+                }
+            }
+        }
 
-            String color = ChatColor.getLastColors(prefix);
-            boolean addColor = chatColor == null || chatColor.isFormat();
+        super.animateLine(line, animation);
+    }
 
-            suffix = (addColor ? (color.isEmpty() ? ChatColor.RESET.toString() : color) : "") + suffixTmp;
+    @Override
+    protected void sendLineChange(int score) throws Throwable {
+        String line = getLineByScore(score);
+
+        if (line == null || line.isEmpty()) {
+            sendTeamPacket(score, TeamMode.UPDATE, EMPTY_LINE_PREFIXES[score], "");
+            return;
         }
 
-        if (prefix.length() > maxLength || suffix.length() > maxLength) {
-            // Something went wrong, just cut to prevent client crash/kick
-            prefix = prefix.substring(0, Math.min(maxLength, prefix.length()));
-            suffix = suffix.substring(0, Math.min(maxLength, suffix.length()));
+        LegacyLineSplitter splitter = hasLinesMaxLength() ? LEGACY_SPLITTER : SPLITTER;
+        if (splitter.fits(line)) {
+            sendTeamPacket(score, TeamMode.UPDATE, line, "");
+            return;
         }
 
-        sendTeamPacket(score, TeamMode.UPDATE, prefix, suffix);
+        String[] split = splitter.split(line);
+        sendTeamPacket(score, TeamMode.UPDATE, split[0], split[1]);
     }
 
     @Override
@@ -139,7 +200,17 @@ public class FastBoard extends FastBoardBase<String> {
             return EMPTY_MESSAGE;
         }
 
-        return Array.get(MESSAGE_FROM_STRING.invoke(line), 0);
+        ComponentCache<String> cache = componentCache;
+        if (cache == null) {
+            return Array.get(MESSAGE_FROM_STRING.invoke(line), 0);
+        }
+
+        Object component = cache.get(line);
+        if (component == null) {
+            component = Array.get(MESSAGE_FROM_STRING.invoke(line), 0);
+            cache.put(line, component);
+        }
+        return component;
     }
 
     @Override
@@ -147,6 +218,11 @@ public class FastBoard extends FastBoardBase<String> {
         return value;
     }
 
+    @Override
+    protected String templateLine(String text) {
+        return text;
+    }
+
     @Override
     protected String emptyLine() {
         return "";
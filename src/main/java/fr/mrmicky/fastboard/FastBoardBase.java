@@ -34,7 +34,23 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -48,16 +64,32 @@ import java.util.stream.Stream;
  */
 public abstract class FastBoardBase<T> {
 
-    private static final Map<Class<?>, Field[]> PACKETS = new HashMap<>(8);
     protected static final String[] COLOR_CODES = Arrays.stream(ChatColor.values())
             .map(Object::toString)
             .toArray(String[]::new);
+    // Players of the team of each line, shared by all the boards
+    private static final List<List<String>> TEAM_PLAYERS_LISTS = Arrays.stream(COLOR_CODES)
+            .map(Collections::singletonList)
+            .collect(Collectors.toList());
+    // Flight Recorder events are only available on Java 11+ and 8u262+
+    private static final boolean JFR_EVENTS = FastReflection.optionalClass("jdk.jfr.Event").isPresent();
+
+    private static volatile Executor asyncExecutor = defaultAsyncExecutor();
+    // Bulk creation of the board being constructed by the current thread, if any
+    private static final ThreadLocal<BulkCreation<?>> BULK_CREATION = new ThreadLocal<>();
     private static final VersionType VERSION_TYPE;
     // Packets and components
     private static final Class<?> CHAT_COMPONENT_CLASS;
     private static final MethodHandle PLAYER_CONNECTION;
     private static final MethodHandle SEND_PACKET;
     private static final MethodHandle PLAYER_GET_HANDLE;
+    private static final MethodHandle PLAYER_CONNECTION_CHANNEL;
+    private static final MethodHandle CHANNEL_EVENT_LOOP;
+    private static final MethodHandle CHANNEL_WRITE;
+    private static final MethodHandle CHANNEL_FLUSH;
+    private static final MethodHandle CHANNEL_IS_WRITABLE;
+    private static final MethodHandle CHANNEL_OUTBOUND_BUFFER;
+    private static final MethodHandle OUTBOUND_BUFFER_PENDING_BYTES;
     private static final MethodHandle FIXED_NUMBER_FORMAT;
     // Scoreboard teams
     private static final MethodHandle OBJECTIVE;
@@ -69,6 +101,8 @@ public abstract class FastBoardBase<T> {
     private static final MethodHandle PACKET_SB_SERIALIZABLE_TEAM;
     private static final MethodHandle PACKET_SB_SET_SCORE;
     private static final MethodHandle PACKET_SB_RESET_SCORE;
+    private static final MethodHandle PACKET_BUNDLE;
+    private static final Object PACKET_BUNDLE_DELIMITER;
     private static final boolean SCORE_OPTIONAL_COMPONENTS;
     // Scoreboard enums
     private static final Class<?> DISPLAY_SLOT_TYPE;
@@ -80,60 +114,111 @@ public abstract class FastBoardBase<T> {
     private static final Object ENUM_SB_ACTION_CHANGE;
     private static final Object ENUM_SB_ACTION_REMOVE;
     private static final Object DUMMY_SCOREBOARD_CRITERIA;
+    // Field setters, resolved once instead of scanning the fields on each packet
+    private static final MethodHandle OBJECTIVE_DISPLAY_NAME;
+    private static final MethodHandle PLAYER_TEAM_DISPLAY_NAME;
+    private static final MethodHandle PLAYER_TEAM_PREFIX;
+    private static final MethodHandle PLAYER_TEAM_SUFFIX;
+    private static final MethodHandle SCORE_PLAYER_NAME;
+    private static final MethodHandle SCORE_OBJECTIVE_NAME;
+    private static final MethodHandle SCORE_ACTION;
+    private static final MethodHandle SCORE_VALUE;
+    private static final MethodHandle TEAM_NAME;
+    private static final MethodHandle TEAM_MODE;
+    private static final MethodHandle TEAM_PREFIX;
+    private static final MethodHandle TEAM_SUFFIX;
+    private static final MethodHandle TEAM_VISIBILITY;
+    private static final MethodHandle TEAM_COLLISION;
+    private static final MethodHandle TEAM_PLAYERS;
 
     static {
         try {
             MethodHandles.Lookup lookup = MethodHandles.lookup();
 
-            if (FastReflection.isRepackaged()) {
-                VERSION_TYPE = VersionType.V1_17;
-            } else if (FastReflection.nmsOptionalClass(null, "ScoreboardServer$Action").isPresent()
-                    || FastReflection.nmsOptionalClass(null, "ServerScoreboard$Method").isPresent()) {
-                VERSION_TYPE = VersionType.V1_13;
-            } else if (FastReflection.nmsOptionalClass(null, "IScoreboardCriteria$EnumScoreboardHealthDisplay").isPresent()
-                    || FastReflection.nmsOptionalClass(null, "ObjectiveCriteria$RenderType").isPresent()) {
-                VERSION_TYPE = VersionType.V1_8;
-            } else {
-                VERSION_TYPE = VersionType.V1_7;
-            }
+            // Names found by the previous boot are reused when a plugin enabled the mapping cache
+            VERSION_TYPE = VersionType.valueOf(MappingCache.name("VERSION_TYPE",
+                    name -> Arrays.stream(VersionType.values()).anyMatch(type -> type.name().equals(name)),
+                    () -> detectVersionType().name()));
 
             String gameProtocolPackage = "network.protocol.game";
             Class<?> craftPlayerClass = FastReflection.obcClass("entity.CraftPlayer");
-            Class<?> entityPlayerClass = FastReflection.nmsClass("server.level", "EntityPlayer", "ServerPlayer");
-            Class<?> playerConnectionClass = FastReflection.nmsClass("server.network", "PlayerConnection", "ServerGamePacketListenerImpl");
-            Class<?> packetClass = FastReflection.nmsClass("network.protocol", "Packet");
-            Class<?> packetSbObjClass = FastReflection.nmsClass(gameProtocolPackage, "PacketPlayOutScoreboardObjective", "ClientboundSetObjectivePacket");
-            Class<?> packetSbDisplayObjClass = FastReflection.nmsClass(gameProtocolPackage, "PacketPlayOutScoreboardDisplayObjective", "ClientboundSetDisplayObjectivePacket");
-            Class<?> packetSbScoreClass = FastReflection.nmsClass(gameProtocolPackage, "PacketPlayOutScoreboardScore", "ClientboundSetScorePacket");
-            Class<?> packetSbTeamClass = FastReflection.nmsClass(gameProtocolPackage, "PacketPlayOutScoreboardTeam", "ClientboundSetPlayerTeamPacket");
+            Class<?> entityPlayerClass = MappingCache.nmsClass("server.level", "EntityPlayer", "ServerPlayer");
+            Class<?> playerConnectionClass = MappingCache.nmsClass("server.network", "PlayerConnection", "ServerGamePacketListenerImpl");
+            Class<?> packetClass = MappingCache.nmsClass("network.protocol", "Packet");
+            Class<?> packetSbObjClass = MappingCache.nmsClass(gameProtocolPackage, "PacketPlayOutScoreboardObjective", "ClientboundSetObjectivePacket");
+            Class<?> packetSbDisplayObjClass = MappingCache.nmsClass(gameProtocolPackage, "PacketPlayOutScoreboardDisplayObjective", "ClientboundSetDisplayObjectivePacket");
+            Class<?> packetSbScoreClass = MappingCache.nmsClass(gameProtocolPackage, "PacketPlayOutScoreboardScore", "ClientboundSetScorePacket");
+            Class<?> packetSbTeamClass = MappingCache.nmsClass(gameProtocolPackage, "PacketPlayOutScoreboardTeam", "ClientboundSetPlayerTeamPacket");
             Class<?> sbTeamClass = VersionType.V1_17.isHigherOrEqual()
-                    ? FastReflection.innerClass(packetSbTeamClass, innerClass -> !innerClass.isEnum()) : null;
-            Field playerConnectionField = Arrays.stream(entityPlayerClass.getFields())
-                    .filter(field -> field.getType().isAssignableFrom(playerConnectionClass))
-                    .findFirst().orElseThrow(NoSuchFieldException::new);
-            Method sendPacketMethod = Stream.concat(
-                            Arrays.stream(playerConnectionClass.getSuperclass().getMethods()),
-                            Arrays.stream(playerConnectionClass.getMethods())
-                    )
-                    .filter(m -> m.getParameterCount() == 1 && m.getParameterTypes()[0] == packetClass)
-                    .findFirst().orElseThrow(NoSuchMethodException::new);
-            Optional<Class<?>> displaySlotEnum = FastReflection.nmsOptionalClass("world.scores", "DisplaySlot");
-            CHAT_COMPONENT_CLASS = FastReflection.nmsClass("network.chat", "IChatBaseComponent", "Component");
+                    ? MappingCache.innerClass("SERIALIZABLE_TEAM", packetSbTeamClass, innerClass -> !innerClass.isEnum())
+                    .orElseThrow(ClassNotFoundException::new) : null;
+            Field playerConnectionField = MappingCache.field("PLAYER_CONNECTION", entityPlayerClass,
+                    field -> Modifier.isPublic(field.getModifiers()) && field.getType().isAssignableFrom(playerConnectionClass),
+                    () -> Arrays.stream(entityPlayerClass.getFields())
+                            .filter(field -> field.getType().isAssignableFrom(playerConnectionClass))
+                            .findFirst()
+            ).orElseThrow(NoSuchFieldException::new);
+            Method sendPacketMethod = MappingCache.method("SEND_PACKET", playerConnectionClass, new Class<?>[]{packetClass},
+                    () -> Stream.concat(
+                                    Arrays.stream(playerConnectionClass.getSuperclass().getMethods()),
+                                    Arrays.stream(playerConnectionClass.getMethods())
+                            )
+                            .filter(m -> m.getParameterCount() == 1 && m.getParameterTypes()[0] == packetClass)
+                            .findFirst()
+            ).orElseThrow(NoSuchMethodException::new);
+            Optional<Class<?>> displaySlotEnum = MappingCache.nmsOptionalClass("world.scores", "DisplaySlot");
+            CHAT_COMPONENT_CLASS = MappingCache.nmsClass("network.chat", "IChatBaseComponent", "Component");
             DISPLAY_SLOT_TYPE = displaySlotEnum.orElse(int.class);
             SIDEBAR_DISPLAY_SLOT = displaySlotEnum.isPresent() ? FastReflection.enumValueOf(DISPLAY_SLOT_TYPE, "SIDEBAR", 1) : 1;
             PLAYER_GET_HANDLE = lookup.findVirtual(craftPlayerClass, "getHandle", MethodType.methodType(entityPlayerClass));
             PLAYER_CONNECTION = lookup.unreflectGetter(playerConnectionField);
             SEND_PACKET = lookup.unreflect(sendPacketMethod);
 
-            Class<?> scoreboardClass = FastReflection.nmsClass("world.scores", "Scoreboard");
-            Class<?> playerTeamClass = FastReflection.nmsClass("world.scores", "ScoreboardTeam", "PlayerTeam");
-            Class<?> objectiveClass = FastReflection.nmsClass("world.scores", "ScoreboardObjective", "Objective");
-            Class<?> objectiveCriteriaClass = FastReflection.nmsClass("world.scores.criteria", "IScoreboardCriteria", "ObjectiveCriteria");
+            // Netty channel of the player connection, used to write the packets without flushing them
+            Class<?> networkManagerClass = MappingCache.nmsClass("network", "NetworkManager", "Connection");
+            Predicate<Field> networkManagerType = f -> !Modifier.isStatic(f.getModifiers()) && f.getType() == networkManagerClass;
+            Predicate<Field> channelType = f -> !Modifier.isStatic(f.getModifiers()) && f.getType().getName().endsWith("netty.channel.Channel");
+            Optional<Field> networkManagerField = MappingCache.field("NETWORK_MANAGER", playerConnectionClass, networkManagerType,
+                    () -> FastReflection.optionalField(playerConnectionClass, networkManagerType));
+            Optional<Field> channelField = MappingCache.field("CHANNEL", networkManagerClass, channelType,
+                    () -> FastReflection.optionalField(networkManagerClass, channelType));
+            if (networkManagerField.isPresent() && channelField.isPresent()) {
+                Class<?> channelClass = channelField.get().getType();
+                MethodHandle getNetworkManager = lookup.unreflectGetter(networkManagerField.get());
+                MethodHandle getChannel = lookup.unreflectGetter(channelField.get());
+                PLAYER_CONNECTION_CHANNEL = MethodHandles.filterReturnValue(getNetworkManager, getChannel);
+                CHANNEL_EVENT_LOOP = lookup.unreflect(channelClass.getMethod("eventLoop"));
+                CHANNEL_WRITE = lookup.unreflect(channelClass.getMethod("write", Object.class));
+                CHANNEL_FLUSH = lookup.unreflect(channelClass.getMethod("flush"));
+                CHANNEL_IS_WRITABLE = lookup.unreflect(channelClass.getMethod("isWritable"));
+
+                // Bytes waiting to be written, from the outbound buffer of the channel
+                Method unsafeMethod = channelClass.getMethod("unsafe");
+                Method outboundBufferMethod = unsafeMethod.getReturnType().getMethod("outboundBuffer");
+                Method pendingBytesMethod = Arrays.stream(outboundBufferMethod.getReturnType().getMethods())
+                        .filter(m -> m.getName().equals("totalPendingWriteBytes") && m.getParameterCount() == 0)
+                        .findFirst().orElse(null);
+                CHANNEL_OUTBOUND_BUFFER = MethodHandles.filterReturnValue(lookup.unreflect(unsafeMethod), lookup.unreflect(outboundBufferMethod));
+                OUTBOUND_BUFFER_PENDING_BYTES = pendingBytesMethod != null ? lookup.unreflect(pendingBytesMethod) : null;
+            } else {
+                PLAYER_CONNECTION_CHANNEL = null;
+                CHANNEL_EVENT_LOOP = null;
+                CHANNEL_WRITE = null;
+                CHANNEL_FLUSH = null;
+                CHANNEL_IS_WRITABLE = null;
+                CHANNEL_OUTBOUND_BUFFER = null;
+                OUTBOUND_BUFFER_PENDING_BYTES = null;
+            }
+
+            Class<?> scoreboardClass = MappingCache.nmsClass("world.scores", "Scoreboard");
+            Class<?> playerTeamClass = MappingCache.nmsClass("world.scores", "ScoreboardTeam", "PlayerTeam");
+            Class<?> objectiveClass = MappingCache.nmsClass("world.scores", "ScoreboardObjective", "Objective");
+            Class<?> objectiveCriteriaClass = MappingCache.nmsClass("world.scores.criteria", "IScoreboardCriteria", "ObjectiveCriteria");
             PLAYER_TEAM = lookup.unreflectConstructor(playerTeamClass.getConstructor(scoreboardClass, String.class));
 
-            Class<?> objectiveRenderTypeClass = FastReflection.nmsOptionalClass("world.scores.criteria", "IScoreboardCriteria$EnumScoreboardHealthDisplay", "ObjectiveCriteria$RenderType").orElse(null);
+            Class<?> objectiveRenderTypeClass = MappingCache.nmsOptionalClass("world.scores.criteria", "IScoreboardCriteria$EnumScoreboardHealthDisplay", "ObjectiveCriteria$RenderType").orElse(null);
 
-            Optional<Class<?>> numberFormat = FastReflection.nmsOptionalClass("network.chat.numbers", "NumberFormat");
+            Optional<Class<?>> numberFormat = MappingCache.nmsOptionalClass("network.chat.numbers", "NumberFormat");
             MethodHandle packetSbSetScore;
             MethodHandle packetSbResetScore = null;
             MethodHandle fixedFormatConstructor = null;
@@ -145,9 +230,9 @@ public abstract class FastBoardBase<T> {
                 PACKET_SB_OBJ = lookup.unreflectConstructor(packetSbObjClass.getConstructor(objectiveClass, int.class));
                 PACKET_SB_DISPLAY_OBJ = lookup.unreflectConstructor(packetSbDisplayObjClass.getConstructor(DISPLAY_SLOT_TYPE, objectiveClass));
 
-                Class<?> blankFormatClass = FastReflection.nmsClass("network.chat.numbers", "BlankFormat");
-                Class<?> fixedFormatClass = FastReflection.nmsClass("network.chat.numbers", "FixedFormat");
-                Class<?> resetScoreClass = FastReflection.nmsClass(gameProtocolPackage, "ClientboundResetScorePacket");
+                Class<?> blankFormatClass = MappingCache.nmsClass("network.chat.numbers", "BlankFormat");
+                Class<?> fixedFormatClass = MappingCache.nmsClass("network.chat.numbers", "FixedFormat");
+                Class<?> resetScoreClass = MappingCache.nmsClass(gameProtocolPackage, "ClientboundResetScorePacket");
                 MethodType scoreType = MethodType.methodType(void.class, String.class, String.class, int.class, CHAT_COMPONENT_CLASS, numberFormat.get());
                 MethodType scoreTypeOptional = MethodType.methodType(void.class, String.class, String.class, int.class, Optional.class, Optional.class);
                 MethodType removeScoreType = MethodType.methodType(void.class, String.class, String.class);
@@ -162,7 +247,7 @@ public abstract class FastBoardBase<T> {
                 packetSbResetScore = lookup.findConstructor(resetScoreClass, removeScoreType);
                 blankNumberFormat = blankField.isPresent() ? blankField.get().get(null) : null;
             } else if (VersionType.V1_17.isHigherOrEqual()) {
-                Class<?> enumSbAction = FastReflection.nmsClass("server", "ScoreboardServer$Action", "ServerScoreboard$Method");
+                Class<?> enumSbAction = MappingCache.nmsClass("server", "ScoreboardServer$Action", "ServerScoreboard$Method");
                 MethodType scoreType = MethodType.methodType(void.class, enumSbAction, String.class, String.class, int.class);
                 packetSbSetScore = lookup.findConstructor(packetSbScoreClass, scoreType);
                 OBJECTIVE = lookup.unreflectConstructor(objectiveClass.getConstructor(scoreboardClass, String.class, objectiveCriteriaClass, CHAT_COMPONENT_CLASS, objectiveRenderTypeClass));
@@ -181,6 +266,19 @@ public abstract class FastBoardBase<T> {
 
             PACKET_SB_SET_SCORE = packetSbSetScore;
             PACKET_SB_RESET_SCORE = packetSbResetScore;
+            // Bundles are only available on 1.19.4+
+            Optional<Class<?>> bundlePacketClass = MappingCache.nmsOptionalClass(gameProtocolPackage, "ClientboundBundlePacket");
+            PACKET_BUNDLE = bundlePacketClass.isPresent()
+                    ? lookup.findConstructor(bundlePacketClass.get(), MethodType.methodType(void.class, Iterable.class)) : null;
+            // The delimiter is only needed to send bundles as pre-encoded packets
+            Optional<Class<?>> bundleDelimiterClass = MappingCache.nmsOptionalClass(gameProtocolPackage, "ClientboundBundleDelimiterPacket");
+            if (PACKET_BUNDLE != null && bundleDelimiterClass.isPresent()) {
+                Constructor<?> bundleDelimiterConstructor = bundleDelimiterClass.get().getDeclaredConstructor();
+                bundleDelimiterConstructor.setAccessible(true);
+                PACKET_BUNDLE_DELIMITER = bundleDelimiterConstructor.newInstance();
+            } else {
+                PACKET_BUNDLE_DELIMITER = null;
+            }
             Constructor<?> packetSbTeamConstructor = sbTeamClass != null ? packetSbTeamClass.getDeclaredConstructor(String.class, int.class, Optional.class, Collection.class) : packetSbTeamClass.getDeclaredConstructor();
             packetSbTeamConstructor.setAccessible(true);
             PACKET_SB_TEAM = lookup.unreflectConstructor(packetSbTeamConstructor);
@@ -189,25 +287,12 @@ public abstract class FastBoardBase<T> {
             BLANK_NUMBER_FORMAT = blankNumberFormat;
             SCORE_OPTIONAL_COMPONENTS = scoreOptionalComponents;
 
-            for (Class<?> clazz : Arrays.asList(packetSbScoreClass, packetSbTeamClass, sbTeamClass, playerTeamClass, objectiveClass)) {
-                if (clazz == null) {
-                    continue;
-                }
-                Field[] fields = Arrays.stream(clazz.getDeclaredFields())
-                        .filter(field -> !Modifier.isStatic(field.getModifiers()))
-                        .toArray(Field[]::new);
-                for (Field field : fields) {
-                    field.setAccessible(true);
-                }
-                PACKETS.put(clazz, fields);
-            }
-
             if (VersionType.V1_8.isHigherOrEqual()) {
                 String enumSbActionClass = VersionType.V1_13.isHigherOrEqual()
                         ? "ScoreboardServer$Action"
                         : "PacketPlayOutScoreboardScore$EnumScoreboardAction";
-                ENUM_SB_HEALTH_DISPLAY = FastReflection.nmsClass("world.scores.criteria", "IScoreboardCriteria$EnumScoreboardHealthDisplay", "ObjectiveCriteria$RenderType");
-                ENUM_SB_ACTION = FastReflection.nmsOptionalClass("server", enumSbActionClass, "ServerScoreboard$Method").orElse(null);
+                ENUM_SB_HEALTH_DISPLAY = MappingCache.nmsClass("world.scores.criteria", "IScoreboardCriteria$EnumScoreboardHealthDisplay", "ObjectiveCriteria$RenderType");
+                ENUM_SB_ACTION = MappingCache.nmsOptionalClass("server", enumSbActionClass, "ServerScoreboard$Method").orElse(null);
                 ENUM_SB_HEALTH_DISPLAY_INTEGER = FastReflection.enumValueOf(ENUM_SB_HEALTH_DISPLAY, "INTEGER", 0);
                 ENUM_SB_ACTION_CHANGE = ENUM_SB_ACTION != null ? FastReflection.enumValueOf(ENUM_SB_ACTION, "CHANGE", 0) : null;
                 ENUM_SB_ACTION_REMOVE = ENUM_SB_ACTION != null ? FastReflection.enumValueOf(ENUM_SB_ACTION, "REMOVE", 1) : null;
@@ -221,21 +306,121 @@ public abstract class FastBoardBase<T> {
             if (VersionType.V1_13.isHigherOrEqual()) {
                 DUMMY_SCOREBOARD_CRITERIA = null;
             } else {
-                DUMMY_SCOREBOARD_CRITERIA = FastReflection.nmsClass("world.scores.criteria", "ScoreboardBaseCriteria").getConstructor(String.class).newInstance("dummy");
+                DUMMY_SCOREBOARD_CRITERIA = MappingCache.nmsClass("world.scores.criteria", "ScoreboardBaseCriteria").getConstructor(String.class).newInstance("dummy");
+            }
+
+            // Text fields are strings before 1.13, and can be either strings or components until 1.17
+            Predicate<Class<?>> componentType = VersionType.V1_13.isHigherOrEqual()
+                    ? type -> type == String.class || type == CHAT_COMPONENT_CLASS
+                    : type -> type == String.class;
+            OBJECTIVE_DISPLAY_NAME = VersionType.V1_13.isHigherOrEqual() ? null : fieldSetter(lookup, "OBJECTIVE_DISPLAY_NAME", objectiveClass, componentType, 1);
+
+            if (VersionType.V1_17.isHigherOrEqual()) {
+                PLAYER_TEAM_DISPLAY_NAME = fieldSetter(lookup, "PLAYER_TEAM_DISPLAY_NAME", playerTeamClass, componentType, 1);
+                PLAYER_TEAM_PREFIX = fieldSetter(lookup, "PLAYER_TEAM_PREFIX", playerTeamClass, componentType, 2);
+                PLAYER_TEAM_SUFFIX = fieldSetter(lookup, "PLAYER_TEAM_SUFFIX", playerTeamClass, componentType, 3);
+                SCORE_PLAYER_NAME = null;
+                SCORE_OBJECTIVE_NAME = null;
+                SCORE_ACTION = null;
+                SCORE_VALUE = null;
+                TEAM_NAME = null;
+                TEAM_MODE = null;
+                TEAM_PREFIX = null;
+                TEAM_SUFFIX = null;
+                TEAM_VISIBILITY = null;
+                TEAM_COLLISION = null;
+                TEAM_PLAYERS = null;
+            } else {
+                PLAYER_TEAM_DISPLAY_NAME = null;
+                PLAYER_TEAM_PREFIX = null;
+                PLAYER_TEAM_SUFFIX = null;
+                SCORE_PLAYER_NAME = fieldSetter(lookup, "SCORE_PLAYER_NAME", packetSbScoreClass, String.class, 0);
+                SCORE_OBJECTIVE_NAME = fieldSetter(lookup, "SCORE_OBJECTIVE_NAME", packetSbScoreClass, String.class, 1);
+                SCORE_ACTION = VersionType.V1_8.isHigherOrEqual()
+                        ? fieldSetter(lookup, "SCORE_ACTION", packetSbScoreClass, ENUM_SB_ACTION, 0)
+                        : fieldSetter(lookup, "SCORE_ACTION", packetSbScoreClass, int.class, 1);
+                SCORE_VALUE = fieldSetter(lookup, "SCORE_VALUE", packetSbScoreClass, int.class, 0);
+                TEAM_NAME = fieldSetter(lookup, "TEAM_NAME", packetSbTeamClass, String.class, 0);
+                TEAM_MODE = fieldSetter(lookup, "TEAM_MODE", packetSbTeamClass, int.class, VERSION_TYPE == VersionType.V1_8 ? 1 : 0);
+                TEAM_PREFIX = fieldSetter(lookup, "TEAM_PREFIX", packetSbTeamClass, componentType, 2);
+                TEAM_SUFFIX = fieldSetter(lookup, "TEAM_SUFFIX", packetSbTeamClass, componentType, 3);
+                TEAM_VISIBILITY = fieldSetter(lookup, "TEAM_VISIBILITY", packetSbTeamClass, String.class, 4); // 1.8+
+                TEAM_COLLISION = fieldSetter(lookup, "TEAM_COLLISION", packetSbTeamClass, String.class, 5); // 1.9+
+                TEAM_PLAYERS = fieldSetter(lookup, "TEAM_PLAYERS", packetSbTeamClass, Collection.class, 0);
             }
+
+            MappingCache.save();
         } catch (Throwable t) {
             throw new ExceptionInInitializerError(t);
         }
     }
 
-    private final Player player;
-    private final String id;
-
-    private final List<T> lines = new ArrayList<>();
-    private final List<T> scores = new ArrayList<>();
-    private T title = emptyLine();
+    private static VersionType detectVersionType() {
+        if (FastReflection.isRepackaged()) {
+            return VersionType.V1_17;
+        }
+        if (MappingCache.nmsOptionalClass(null, "ScoreboardServer$Action").isPresent()
+                || MappingCache.nmsOptionalClass(null, "ServerScoreboard$Method").isPresent()) {
+            return VersionType.V1_13;
+        }
+        if (MappingCache.nmsOptionalClass(null, "IScoreboardCriteria$EnumScoreboardHealthDisplay").isPresent()
+                || MappingCache.nmsOptionalClass(null, "ObjectiveCriteria$RenderType").isPresent()) {
+            return VersionType.V1_8;
+        }
+        return VersionType.V1_7;
+    }
 
+    private volatile Player player;
+    private final String id;
+    // Name of the objective and prefix of the team names, shared by the boards created together
+    private final String objectiveName;
+    private final String[] teamNames = new String[COLOR_CODES.length];
+    private final Object[] teams = new Object[COLOR_CODES.length];
+
+    // Current state, replaced on each update so reading it never blocks
+    private final AtomicReference<BoardState<T>> state;
+    // State last sent to the viewers, only used while holding the send lock
+    private BoardState<T> sentState;
+    // State being sent, returned to subclasses while sending lines
+    private BoardState<T> renderedState;
+
+    private final ReentrantLock sendLock = new ReentrantLock();
+    private final AtomicInteger sendRequests = new AtomicInteger();
+
+    private final List<Player> viewers = new CopyOnWriteArrayList<>();
+    // Viewers not receiving the updates until their connection is ready, with the last state they received
+    private final Map<Player, BoardState<T>> pausedViewers = new ConcurrentHashMap<>();
+    private Collection<Player> packetTargets;
+    private final PacketSink packetSink;
+    private final FastBoardMetrics metrics = new FastBoardMetrics();
+
+    private final List<Object> packetBatch = new ArrayList<>();
+    private int batchDepth = 0;
+    // Bulk creation keeping the packets instead of sending them while its first board is built, only set while holding the send lock
+    private volatile BulkCreation<T> packetCapture;
+
+    // Animations advanced by the manager, replaced while holding the animation lock
+    private final Object animationLock = new Object();
+    private volatile AnimationSlot<T> titleAnimation;
+    @SuppressWarnings("unchecked")
+    private volatile AnimationSlot<T>[] lineAnimations = emptyAnimationSlots();
+
+    // Line templates and the values of their variables, only used while holding the template lock
+    private final Object templateLock = new Object();
+    private final Map<String, Object> variables = new HashMap<>();
+    private final Map<String, Integer> variableLines = new HashMap<>();
+    private final StringBuilder templateBuilder = new StringBuilder();
+    private LineTemplate[] lineTemplates = new LineTemplate[0];
+    // Rendered template of each line, or null for the lines without template
+    private volatile Object[] templateLines = new Object[0];
+
+    private final AtomicReference<FastBoardManager> manager = new AtomicReference<>();
     private volatile boolean deleted = false;
+    // Whether the owner was removed from the viewers, until the board is attached to a player again
+    private volatile boolean detached = false;
+
+    // Runs the asynchronous updates of this board in order
+    private final SerialExecutor asyncUpdates = new SerialExecutor(() -> asyncExecutor);
 
     /**
      * Creates a new FastBoard.
@@ -243,15 +428,143 @@ public abstract class FastBoardBase<T> {
      * @param player the owner of the scoreboard
      */
     protected FastBoardBase(Player player) {
+        this(player, UnaryOperator.identity());
+    }
+
+    /**
+     * Creates a new FastBoard, sending its packets through a custom {@link PacketSink}.
+     * The default sink sends the packets to the connection of each viewer, which is resolved once
+     * and then only when the player handle changes.
+     *
+     * @param player     the owner of the scoreboard
+     * @param packetSink the function receiving the default sink and returning the sink to use,
+     *                   which can wrap or replace the default sink
+     */
+    @SuppressWarnings("unchecked")
+    protected FastBoardBase(Player player, UnaryOperator<PacketSink> packetSink) {
+        Objects.requireNonNull(packetSink, "packetSink");
+        Object event = JFR_EVENTS ? FastBoardEvents.beginBoardCreate() : null;
         this.player = Objects.requireNonNull(player, "player");
-        this.id = "fb-" + Integer.toHexString(ThreadLocalRandom.current().nextInt());
 
-        try {
-            Object objective = sendObjectivePacket(ObjectiveMode.CREATE);
-            sendDisplayObjectivePacket(objective);
-        } catch (Throwable t) {
-            throw new RuntimeException("Unable to create scoreboard", t);
+        // Only the board created by the bulk creation factory is part of it
+        BulkCreation<T> bulk = (BulkCreation<T>) BULK_CREATION.get();
+        BULK_CREATION.remove();
+        this.id = newId();
+        this.objectiveName = bulk != null ? bulk.objectiveName : this.id;
+
+        for (int i = 0; i < this.teamNames.length; i++) {
+            this.teamNames[i] = this.objectiveName + ':' + i;
+        }
+        this.viewers.add(player);
+        this.packetSink = Objects.requireNonNull(packetSink.apply(new ConnectionPacketSink()), "packetSink");
+
+        // The other boards of a bulk creation start with the state of the first board, sent afterward
+        BoardState<T> initialState = bulk != null && bulk.state != null ? bulk.state : new BoardState<>(emptyLine());
+        this.state = new AtomicReference<>(initialState);
+        this.sentState = initialState;
+
+        if (bulk == null || bulk.state == null) {
+            this.packetCapture = bulk;
+
+            try {
+                beginPacketBatch();
+                try {
+                    Object objective = sendObjectivePacket(ObjectiveMode.CREATE);
+                    sendDisplayObjectivePacket(objective);
+                } finally {
+                    endPacketBatch();
+                }
+            } catch (Throwable t) {
+                throw new RuntimeException("Unable to create scoreboard", t);
+            }
+        }
+
+        if (event != null) {
+            FastBoardEvents.commitBoardCreate(event, this.id, player.getName());
+        }
+    }
+
+    /**
+     * Creates the boards of many players at once, with the same title and lines, for example when a game starts.
+     * The packets creating the scoreboard are only built once, for the first board, and are then sent to each
+     * player in a single batch. The boards are created in parallel by the {@link #getAsyncExecutor() async executor}.
+     * Each board has its own {@link #getId() id}, but the boards share the names of their objective and teams,
+     * which are part of the shared packets, so a player can't view two of these boards at the same time.
+     * <p>
+     * The factory must create a new board for the given player, like {@code FastBoard::new}, and can register it
+     * to a {@link FastBoardManager}. If a board can't be created, the boards already created are deleted,
+     * and if the first board can't be created, nothing is sent to any player.
+     *
+     * @param players the owners of the boards
+     * @param factory the function creating the board of a player
+     * @param title   the title of the boards
+     * @param lines   the lines of the boards
+     * @param <T>     the type of the lines
+     * @param <B>     the type of the boards
+     * @return a future completed with the boards, in the order of the players, once they are all sent
+     */
+    public static <T, B extends FastBoardBase<T>> CompletableFuture<List<B>> createAll(
+            Collection<? extends Player> players, Function<? super Player, B> factory, T title, Collection<T> lines) {
+        Objects.requireNonNull(players, "players");
+        Objects.requireNonNull(factory, "factory");
+        Objects.requireNonNull(title, "title");
+        Objects.requireNonNull(lines, "lines");
+
+        List<Player> playerList = new ArrayList<>(players);
+        List<T> lineList = new ArrayList<>(lines);
+        Executor executor = asyncExecutor;
+
+        if (playerList.isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
         }
+
+        BulkCreation<T> bulk = new BulkCreation<>();
+
+        return CompletableFuture.supplyAsync(() -> {
+            B first = createBulkBoard(bulk, playerList.get(0), factory);
+            FastBoardBase<T> firstBoard = first;
+
+            // The packets of the first board are captured while it is updated, to be sent to every player
+            try {
+                firstBoard.updateTitle(title);
+                firstBoard.updateLines(lineList);
+                firstBoard.sendPendingChanges(); // If the factory registered it to a manager
+            } catch (Throwable t) {
+                firstBoard.discardPacketCapture();
+                throw new RuntimeException("Unable to create scoreboard", t);
+            }
+
+            bulk.state = firstBoard.endPacketCapture();
+            firstBoard.sendBulkPackets(bulk);
+            return first;
+        }, executor).thenCompose(first -> {
+            List<CompletableFuture<B>> futures = new ArrayList<>(playerList.size());
+            futures.add(CompletableFuture.completedFuture(first));
+
+            for (Player player : playerList.subList(1, playerList.size())) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    B board = createBulkBoard(bulk, player, factory);
+                    ((FastBoardBase<T>) board).sendBulkPackets(bulk);
+                    return board;
+                }, executor));
+            }
+
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).handle((ignored, error) -> {
+                List<B> boards = new ArrayList<>(futures.size());
+
+                for (CompletableFuture<B> future : futures) {
+                    if (!future.isCompletedExceptionally()) {
+                        boards.add(future.join());
+                    }
+                }
+
+                if (error != null) {
+                    boards.forEach(FastBoardBase::delete);
+                    throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(error);
+                }
+                return boards;
+            });
+        });
     }
 
     /**
@@ -259,27 +572,34 @@ public abstract class FastBoardBase<T> {
      *
      * @return the scoreboard title
      */
-    public synchronized T getTitle() {
-        return this.title;
+    public T getTitle() {
+        return this.state.get().title;
     }
 
     /**
-     * Updates the scoreboard title.
+     * Updates the scoreboard title. This stops the animation of the title, if any.
      *
      * @param title the new scoreboard title
      * @throws IllegalArgumentException if the title is longer than 32 chars on 1.12 or lower
+     * @throws IllegalStateException    if this FastBoard has already been deleted
      */
-    public synchronized void updateTitle(T title) {
-        if (this.title.equals(Objects.requireNonNull(title, "title"))) {
-            return;
-        }
+    public void updateTitle(T title) {
+        Objects.requireNonNull(title, "title");
 
-        this.title = title;
+        this.titleAnimation = null;
 
-        try {
-            sendObjectivePacket(ObjectiveMode.UPDATE);
-        } catch (Throwable t) {
-            throw new RuntimeException("Unable to update scoreboard title", t);
+        Object event = JFR_EVENTS ? FastBoardEvents.beginTitleUpdate() : null;
+
+        updateState(state -> {
+            if (state.title.equals(title)) {
+                return state;
+            }
+
+            return state.withTitle(title);
+        }, "Unable to update scoreboard title");
+
+        if (event != null) {
+            FastBoardEvents.commitTitleUpdate(event, this.id, serializeLine(title));
         }
     }
 
@@ -288,8 +608,8 @@ public abstract class FastBoardBase<T> {
      *
      * @return the scoreboard lines
      */
-    public synchronized List<T> getLines() {
-        return new ArrayList<>(this.lines);
+    public List<T> getLines() {
+        return new ArrayList<>(this.state.get().lines());
     }
 
     /**
@@ -299,10 +619,11 @@ public abstract class FastBoardBase<T> {
      * @return the line
      * @throws IllegalArgumentException if the line number is out of range
      */
-    public synchronized T getLine(int line) {
-        checkLineNumber(line, true, false);
+    public T getLine(int line) {
+        BoardState<T> state = this.state.get();
+        checkLineNumber(line, state.size(), true, false);
 
-        return this.lines.get(line);
+        return state.line(line);
     }
 
     /**
@@ -312,85 +633,180 @@ public abstract class FastBoardBase<T> {
      * @return the text of how the line is displayed
      * @throws IllegalArgumentException if the line number is out of range
      */
-    public synchronized Optional<T> getScore(int line) {
-        checkLineNumber(line, true, false);
+    public Optional<T> getScore(int line) {
+        BoardState<T> state = this.state.get();
+        checkLineNumber(line, state.size(), true, false);
 
-        return Optional.ofNullable(this.scores.get(line));
+        return Optional.ofNullable(state.score(line));
     }
 
     /**
-     * Updates a single scoreboard line.
+     * Updates a single scoreboard line. This stops the animation and removes the template of the line, if any.
      *
      * @param line  the line number
      * @param score the new line text
      * @throws IllegalArgumentException if the line number is out of range
+     * @throws IllegalStateException    if this FastBoard has already been deleted
      */
-    public synchronized void updateLine(int line, T score) {
+    public void updateLine(int line, T score) {
         updateLine(line, score, null);
     }
 
     /**
      * Updates a single scoreboard line including how its score is displayed.
      * The score will only be displayed on 1.20.3 and higher.
+     * This stops the animation and removes the template of the line, if any.
      *
      * @param line      the line number
      * @param score     the new line text
      * @param scoreText the new line score, or null to use the default blank score
      * @throws IllegalArgumentException if the line number is out of range
+     * @throws IllegalStateException    if this FastBoard has already been deleted
      */
-    public synchronized void updateLine(int line, T score, T scoreText) {
-        checkLineNumber(line, false, false);
+    public void updateLine(int line, T score, T scoreText) {
+        checkLineNumber(line, Integer.MAX_VALUE, false, false);
 
-        try {
-            if (line < size()) {
-                this.lines.set(line, score);
-                this.scores.set(line, scoreText);
+        setLineAnimation(line, null);
+        setLineTemplate(line, null, false);
 
-                sendLineChange(getScoreByLine(line));
+        updateState(state -> {
+            int size = state.size();
 
-                if (customScoresSupported()) {
-                    sendScorePacket(getScoreByLine(line), ScoreboardAction.CHANGE);
-                }
+            if (line < size && Objects.equals(state.line(line), score) && Objects.equals(state.score(line), scoreText)) {
+                return state;
+            }
 
-                return;
+            if (line >= size) {
+                checkLineNumber(line + 1, Integer.MAX_VALUE, false, true);
             }
 
-            List<T> newLines = new ArrayList<>(this.lines);
-            List<T> newScores = new ArrayList<>(this.scores);
+            Object[] newLines = Arrays.copyOf(state.lines, Math.max(size, line + 1));
+            Object[] newScores = Arrays.copyOf(state.scores, newLines.length);
 
-            if (line > size()) {
-                for (int i = size(); i < line; i++) {
-                    newLines.add(emptyLine());
-                    newScores.add(null);
-                }
+            for (int i = size; i < line; i++) {
+                newLines[i] = emptyLine();
             }
 
-            newLines.add(score);
-            newScores.add(scoreText);
+            newLines[line] = score;
+            newScores[line] = scoreText;
+            return new BoardState<>(state.title, newLines, newScores);
+        }, "Unable to update scoreboard lines");
+    }
 
-            updateLines(newLines, newScores);
-        } catch (Throwable t) {
-            throw new RuntimeException("Unable to update scoreboard lines", t);
+    /**
+     * Removes a scoreboard line. The animations and templates of the following lines are moved with their line.
+     *
+     * @param line the line number
+     * @throws IllegalStateException if this FastBoard has already been deleted
+     */
+    public void removeLine(int line) {
+        checkLineNumber(line, Integer.MAX_VALUE, false, false);
+        checkNotDeleted();
+
+        BoardState<T> replaced;
+        // The animations and templates are only moved if the line is removed
+        synchronized (this.animationLock) {
+            synchronized (this.templateLock) {
+                replaced = commitState(state -> {
+                    if (line >= state.size()) {
+                        return state;
+                    }
+
+                    return new BoardState<>(state.title, removeElement(state.lines, line), removeElement(state.scores, line));
+                });
+
+                if (replaced != null) {
+                    AnimationSlot<T>[] animations = this.lineAnimations;
+                    if (line < animations.length) {
+                        this.lineAnimations = removeElement(animations, line);
+                    }
+
+                    if (line < this.lineTemplates.length) {
+                        this.lineTemplates = removeElement(this.lineTemplates, line);
+                        this.templateLines = removeElement(this.templateLines, line);
+                        updateVariableLines();
+                    }
+                }
+            }
+        }
+
+        if (replaced != null) {
+            sendChanges("Unable to update scoreboard lines");
         }
     }
 
     /**
-     * Removes a scoreboard line.
+     * Inserts a scoreboard line, and moves the following lines down with their animations and templates.
      *
-     * @param line the line number
+     * @param line the line number, up to the number of lines to add the line at the end
+     * @param text the new line text
+     * @throws IllegalArgumentException if the line number is out of range, or if the scoreboard is full
+     * @throws IllegalStateException    if this FastBoard has already been deleted
      */
-    public synchronized void removeLine(int line) {
-        checkLineNumber(line, false, false);
+    public void insertLine(int line, T text) {
+        insertLine(line, text, null);
+    }
 
-        if (line >= size()) {
-            return;
+    /**
+     * Inserts a scoreboard line including how its score is displayed, and moves the following lines down
+     * with their animations and templates. The score will only be displayed on 1.20.3 and higher.
+     *
+     * @param line      the line number, up to the number of lines to add the line at the end
+     * @param text      the new line text
+     * @param scoreText the new line score, or null to use the default blank score
+     * @throws IllegalArgumentException if the line number is out of range, or if the scoreboard is full
+     * @throws IllegalStateException    if this FastBoard has already been deleted
+     */
+    public void insertLine(int line, T text, T scoreText) {
+        int currentSize = this.state.get().size();
+        checkLineNumber(currentSize + 1, Integer.MAX_VALUE, false, true);
+        checkLineNumber(line, currentSize + 1, true, false);
+        checkNotDeleted();
+
+        BoardState<T> replaced;
+        // The animations and templates are only moved once the line is inserted
+        synchronized (this.animationLock) {
+            synchronized (this.templateLock) {
+                replaced = commitState(state -> {
+                    int size = state.size();
+                    checkLineNumber(size + 1, Integer.MAX_VALUE, false, true);
+                    checkLineNumber(line, size + 1, true, false);
+
+                    return new BoardState<>(state.title, insertElement(state.lines, line, text), insertElement(state.scores, line, scoreText));
+                });
+
+                AnimationSlot<T>[] animations = this.lineAnimations;
+                if (line < animations.length) {
+                    this.lineAnimations = insertElement(animations, line, null);
+                }
+
+                if (line < this.lineTemplates.length) {
+                    this.lineTemplates = insertElement(this.lineTemplates, line, null);
+                    this.templateLines = insertElement(this.templateLines, line, null);
+                    updateVariableLines();
+                }
+            }
+        }
+
+        if (replaced != null) {
+            sendChanges("Unable to update scoreboard lines");
         }
+    }
+
+    /**
+     * Adds a scoreboard line after the last line.
+     *
+     * @param text the new line text
+     * @throws IllegalArgumentException if the scoreboard is full
+     * @throws IllegalStateException    if this FastBoard has already been deleted
+     */
+    public void appendLine(T text) {
+        updateState(state -> {
+            int size = state.size();
+            checkLineNumber(size + 1, Integer.MAX_VALUE, false, true);
 
-        List<T> newLines = new ArrayList<>(this.lines);
-        List<T> newScores = new ArrayList<>(this.scores);
-        newLines.remove(line);
-        newScores.remove(line);
-        updateLines(newLines, newScores);
+            return new BoardState<>(state.title, insertElement(state.lines, size, text), insertElement(state.scores, size, null));
+        }, "Unable to update scoreboard lines");
     }
 
     /**
@@ -411,13 +827,15 @@ public abstract class FastBoardBase<T> {
      * @throws IllegalArgumentException if one line is longer than 30 chars on 1.12 or lower
      * @throws IllegalStateException    if this FastBoard has already been deleted
      */
-    public synchronized void updateLines(Collection<T> lines) {
+    public void updateLines(Collection<T> lines) {
         updateLines(lines, null);
     }
 
     /**
      * Updates the lines and how their score is displayed on the scoreboard.
      * The scores will only be displayed for servers on 1.20.3 and higher.
+     * The animated lines and the lines with a template keep displaying them, so their new value is ignored.
+     * The animations and templates of the lines beyond the new number of lines are removed.
      *
      * @param lines  the new scoreboard lines
      * @param scores the custom score text for each line, or null to use the default blank scores
@@ -425,52 +843,79 @@ public abstract class FastBoardBase<T> {
      * @throws IllegalArgumentException if lines and scores are not the same size
      * @throws IllegalStateException    if this FastBoard has already been deleted
      */
-    public synchronized void updateLines(Collection<T> lines, Collection<T> scores) {
+    public void updateLines(Collection<T> lines, Collection<T> scores) {
         Objects.requireNonNull(lines, "lines");
-        checkLineNumber(lines.size(), false, true);
+        checkLineNumber(lines.size(), Integer.MAX_VALUE, false, true);
 
         if (scores != null && scores.size() != lines.size()) {
             throw new IllegalArgumentException("The size of the scores must match the size of the board");
         }
 
-        List<T> oldLines = new ArrayList<>(this.lines);
-        this.lines.clear();
-        this.lines.addAll(lines);
+        Object event = JFR_EVENTS ? FastBoardEvents.beginLinesUpdate() : null;
 
-        List<T> oldScores = new ArrayList<>(this.scores);
-        this.scores.clear();
-        this.scores.addAll(scores != null ? scores : Collections.nCopies(lines.size(), null));
+        // Checked before creating the update function, so an update without changes allocates nothing
+        checkNotDeleted();
+        if (this.state.get().hasElements(lines, scores)) {
+            this.metrics.recordSuppressedUpdate();
 
-        int linesSize = this.lines.size();
+            if (event != null) {
+                FastBoardEvents.commitLinesUpdate(event, this.id, lines.size(), 0);
+            }
+            return;
+        }
 
+        long start = System.nanoTime();
+        BoardState<T> previousState;
+        boolean animationsRemoved = false;
         try {
-            if (oldLines.size() != linesSize) {
-                List<T> oldLinesCopy = new ArrayList<>(oldLines);
-
-                if (oldLines.size() > linesSize) {
-                    for (int i = oldLinesCopy.size(); i > linesSize; i--) {
-                        sendTeamPacket(i - 1, TeamMode.REMOVE);
-                        sendScorePacket(i - 1, ScoreboardAction.REMOVE);
-                        oldLines.remove(0);
+            // The animations and templates of the lines beyond the new size are removed with them
+            synchronized (this.animationLock) {
+                synchronized (this.templateLock) {
+                    previousState = commitState(state -> {
+                        if (state.hasElements(lines, scores)) {
+                            return state;
+                        }
+
+                        Object[] newLines = lines.toArray();
+                        Object[] newScores = scores != null ? scores.toArray() : new Object[newLines.length];
+                        BoardState<T> newState = withAnimationFrames(withTemplateLines(new BoardState<>(state.title, newLines, newScores)));
+
+                        // The new values may only differ from the current state on animated or template lines
+                        if (Arrays.equals(newState.lines, state.lines) && Arrays.equals(newState.scores, state.scores)) {
+                            return state;
+                        }
+                        return newState;
+                    });
+
+                    AnimationSlot<T>[] animations = this.lineAnimations;
+                    if (previousState != null && lines.size() < animations.length) {
+                        this.lineAnimations = Arrays.copyOf(animations, lines.size());
+                        animationsRemoved = true;
                     }
-                } else {
-                    for (int i = oldLinesCopy.size(); i < linesSize; i++) {
-                        sendScorePacket(i, ScoreboardAction.CHANGE);
-                        sendTeamPacket(i, TeamMode.CREATE, null, null);
+
+                    if (previousState != null && lines.size() < this.lineTemplates.length) {
+                        this.lineTemplates = Arrays.copyOf(this.lineTemplates, lines.size());
+                        this.templateLines = Arrays.copyOf(this.templateLines, lines.size());
+                        updateVariableLines();
                     }
                 }
             }
 
-            for (int i = 0; i < linesSize; i++) {
-                if (!Objects.equals(getLineByScore(oldLines, i), getLineByScore(i))) {
-                    sendLineChange(i);
-                }
-                if (!Objects.equals(getLineByScore(oldScores, i), getLineByScore(this.scores, i))) {
-                    sendScorePacket(i, ScoreboardAction.CHANGE);
-                }
+            FastBoardManager manager = this.manager.get();
+            if (animationsRemoved && manager != null) {
+                manager.removeAnimatedBoard(this);
             }
-        } catch (Throwable t) {
-            throw new RuntimeException("Unable to update scoreboard lines", t);
+
+            if (previousState != null) {
+                sendChanges("Unable to update scoreboard lines");
+            }
+        } finally {
+            this.metrics.recordUpdateLines(System.nanoTime() - start);
+        }
+
+        if (event != null) {
+            int changedLines = previousState != null ? BoardState.countChanges(previousState.lines, lines) : 0;
+            FastBoardEvents.commitLinesUpdate(event, this.id, lines.size(), changedLines);
         }
     }
 
@@ -483,18 +928,18 @@ public abstract class FastBoardBase<T> {
      * @throws IllegalArgumentException if the line number is not in range
      * @throws IllegalStateException    if this FastBoard has already been deleted
      */
-    public synchronized void updateScore(int line, T score) {
-        checkLineNumber(line, true, false);
-
-        this.scores.set(line, score);
+    public void updateScore(int line, T score) {
+        updateState(state -> {
+            checkLineNumber(line, state.size(), true, false);
 
-        try {
-            if (customScoresSupported()) {
-                sendScorePacket(getScoreByLine(line), ScoreboardAction.CHANGE);
+            if (Objects.equals(state.score(line), score)) {
+                return state;
             }
-        } catch (Throwable e) {
-            throw new RuntimeException("Unable to update line score", e);
-        }
+
+            Object[] newScores = state.scores.clone();
+            newScores[line] = score;
+            return new BoardState<>(state.title, state.lines, newScores);
+        }, "Unable to update line score");
     }
 
     /**
@@ -504,7 +949,7 @@ public abstract class FastBoardBase<T> {
      * @throws IllegalArgumentException if the line number is not in range
      * @throws IllegalStateException    if this FastBoard has already been deleted
      */
-    public synchronized void removeScore(int line) {
+    public void removeScore(int line) {
         updateScore(line, null);
     }
 
@@ -516,7 +961,7 @@ public abstract class FastBoardBase<T> {
      * @throws IllegalArgumentException if the size of the texts does not match the current size of the board
      * @throws IllegalStateException    if this FastBoard has already been deleted
      */
-    public synchronized void updateScores(T... scores) {
+    public void updateScores(T... scores) {
         updateScores(Arrays.asList(scores));
     }
 
@@ -528,140 +973,1197 @@ public abstract class FastBoardBase<T> {
      * @throws IllegalArgumentException if the size of the texts does not match the current size of the board
      * @throws IllegalStateException    if this FastBoard has already been deleted
      */
-    public synchronized void updateScores(Collection<T> scores) {
+    public void updateScores(Collection<T> scores) {
         Objects.requireNonNull(scores, "scores");
 
-        if (scores.size() != this.lines.size()) {
-            throw new IllegalArgumentException("The size of the scores must match the size of the board");
-        }
+        updateState(state -> {
+            if (scores.size() != state.size()) {
+                throw new IllegalArgumentException("The size of the scores must match the size of the board");
+            }
 
-        List<T> newScores = new ArrayList<>(scores);
-        for (int i = 0; i < this.scores.size(); i++) {
-            if (Objects.equals(this.scores.get(i), newScores.get(i))) {
-                continue;
+            if (BoardState.hasElements(state.scores, scores)) {
+                return state;
             }
 
-            this.scores.set(i, newScores.get(i));
+            return new BoardState<>(state.title, state.lines, scores.toArray());
+        }, "Unable to update scores");
+    }
 
-            try {
-                if (customScoresSupported()) {
-                    sendScorePacket(getScoreByLine(i), ScoreboardAction.CHANGE);
-                }
-            } catch (Throwable e) {
-                throw new RuntimeException("Unable to update scores", e);
-            }
-        }
+    /**
+     * Returns the executor running the asynchronous updates of all the boards. Each board runs its
+     * asynchronous updates one at a time and in order, without blocking the calling thread.
+     *
+     * @return the executor used for asynchronous updates
+     */
+    public static Executor getAsyncExecutor() {
+        return asyncExecutor;
     }
 
     /**
-     * Returns the player who has the scoreboard.
+     * Sets the executor running the asynchronous updates of all the boards. By default, a virtual
+     * thread per task executor is used on Java 21 and higher, and the common fork-join pool otherwise.
      *
-     * @return current player for this FastBoard
+     * @param executor the executor to use for asynchronous updates
      */
-    public Player getPlayer() {
-        return this.player;
+    public static void setAsyncExecutor(Executor executor) {
+        asyncExecutor = Objects.requireNonNull(executor, "executor");
     }
 
     /**
-     * Returns the scoreboard ID.
+     * Runs an update of this board asynchronously, after the previous asynchronous updates of this board.
      *
-     * @return the id
+     * @param update the update to run
+     * @return a future completed when the update is done, or completed exceptionally if the update failed
      */
-    public String getId() {
-        return this.id;
+    public CompletableFuture<Void> updateAsync(Consumer<? super FastBoardBase<T>> update) {
+        Objects.requireNonNull(update, "update");
+
+        return CompletableFuture.runAsync(() -> update.accept(this), this.asyncUpdates);
     }
 
     /**
-     * Returns whether this FastBoard has been deleted.
+     * Updates the scoreboard title asynchronously, after the previous asynchronous updates of this board.
      *
-     * @return true if the scoreboard is deleted
+     * @param title the new scoreboard title
+     * @return a future completed when the title is updated
+     * @see #updateTitle(Object)
      */
-    public boolean isDeleted() {
-        return this.deleted;
+    public CompletableFuture<Void> updateTitleAsync(T title) {
+        return updateAsync(board -> board.updateTitle(title));
     }
 
     /**
-     * Returns whether the server supports custom scoreboard scores (1.20.3+ servers only).
+     * Updates a single scoreboard line asynchronously, after the previous asynchronous updates of this board.
      *
-     * @return true if the server supports custom scores
+     * @param line  the line number
+     * @param score the new line text
+     * @return a future completed when the line is updated
+     * @see #updateLine(int, Object)
      */
-    public boolean customScoresSupported() {
-        return BLANK_NUMBER_FORMAT != null;
+    public CompletableFuture<Void> updateLineAsync(int line, T score) {
+        return updateAsync(board -> board.updateLine(line, score));
     }
 
     /**
-     * Returns the scoreboard size (the number of lines).
+     * Removes a scoreboard line asynchronously, after the previous asynchronous updates of this board.
      *
-     * @return the size
+     * @param line the line number
+     * @return a future completed when the line is removed
+     * @see #removeLine(int)
      */
-    public synchronized int size() {
-        return this.lines.size();
+    public CompletableFuture<Void> removeLineAsync(int line) {
+        return updateAsync(board -> board.removeLine(line));
     }
 
     /**
-     * Deletes this FastBoard and removes the scoreboard from the associated player if they are online.
-     * After deletion, all scoreboard update methods will throw an {@link IllegalStateException}.
+     * Updates all the scoreboard lines asynchronously, after the previous asynchronous updates of this board.
+     *
+     * @param lines the new lines
+     * @return a future completed when the lines are updated
+     * @see #updateLines(Object[])
      */
-    public synchronized void delete() {
-        if (this.deleted) {
-            return;
-        }
+    public CompletableFuture<Void> updateLinesAsync(T... lines) {
+        return updateLinesAsync(Arrays.asList(lines));
+    }
 
-        try {
-            for (int i = 0; i < this.lines.size(); i++) {
-                sendTeamPacket(i, TeamMode.REMOVE);
-            }
+    /**
+     * Updates all the scoreboard lines asynchronously, after the previous asynchronous updates of this board.
+     *
+     * @param lines the new lines
+     * @return a future completed when the lines are updated
+     * @see #updateLines(Collection)
+     */
+    public CompletableFuture<Void> updateLinesAsync(Collection<T> lines) {
+        return updateLinesAsync(lines, null);
+    }
 
-            sendObjectivePacket(ObjectiveMode.REMOVE);
-        } catch (Throwable t) {
-            throw new RuntimeException("Unable to delete scoreboard", t);
-        }
+    /**
+     * Updates the lines and their scores asynchronously, after the previous asynchronous updates of this board.
+     * The lines and scores are copied before returning, so the given collections can be reused.
+     *
+     * @param lines  the new scoreboard lines
+     * @param scores the custom score text for each line, or null to use the default blank scores
+     * @return a future completed when the lines are updated
+     * @see #updateLines(Collection, Collection)
+     */
+    public CompletableFuture<Void> updateLinesAsync(Collection<T> lines, Collection<T> scores) {
+        Objects.requireNonNull(lines, "lines");
+        List<T> linesCopy = new ArrayList<>(lines);
+        List<T> scoresCopy = scores != null ? new ArrayList<>(scores) : null;
 
-        this.deleted = true;
+        return updateAsync(board -> board.updateLines(linesCopy, scoresCopy));
     }
 
-    protected abstract void sendLineChange(int score) throws Throwable;
+    /**
+     * Updates how all lines' scores are displayed asynchronously, after the previous asynchronous updates of this board.
+     * The scores are copied before returning, so the given collection can be reused.
+     *
+     * @param scores the custom score texts for the lines, or null to use the default blank scores
+     * @return a future completed when the scores are updated
+     * @see #updateScores(Collection)
+     */
+    public CompletableFuture<Void> updateScoresAsync(Collection<T> scores) {
+        Objects.requireNonNull(scores, "scores");
+        List<T> scoresCopy = new ArrayList<>(scores);
 
-    protected abstract Object toMinecraftComponent(T value) throws Throwable;
+        return updateAsync(board -> board.updateScores(scoresCopy));
+    }
 
-    protected abstract String serializeLine(T value);
+    /**
+     * Animates the scoreboard title, replacing its current value with the frames of the animation.
+     * The animation is advanced every tick by the manager of this FastBoard, and runs until
+     * it is replaced, stopped, or the title is updated.
+     *
+     * @param animation the title animation
+     * @throws IllegalStateException if this FastBoard is not registered to a {@link FastBoardManager}
+     * @throws IllegalStateException if this FastBoard has already been deleted
+     */
+    public void animateTitle(Animation<T> animation) {
+        Objects.requireNonNull(animation, "animation");
 
-    protected abstract T emptyLine();
+        FastBoardManager manager = checkAnimationManager();
+        precomputeAnimation(animation);
 
-    private void checkLineNumber(int line, boolean checkInRange, boolean checkMax) {
-        if (line < 0) {
-            throw new IllegalArgumentException("Line number must be positive");
-        }
+        this.titleAnimation = new AnimationSlot<>(animation);
+        manager.addAnimatedBoard(this);
+
+        updateState(this::withAnimationFrames, "Unable to update scoreboard title");
+    }
+
+    /**
+     * Animates a scoreboard line, replacing its current value with the frames of the animation.
+     * The animation is advanced every tick by the manager of this FastBoard, and runs until
+     * it is replaced, stopped, the line is updated with {@link #updateLine(int, Object)} or the line is removed.
+     * This removes the template of the line, if any.
+     *
+     * @param line      the line number
+     * @param animation the line animation
+     * @throws IllegalArgumentException if the line number is out of range
+     * @throws IllegalStateException    if this FastBoard is not registered to a {@link FastBoardManager}
+     * @throws IllegalStateException    if this FastBoard has already been deleted
+     */
+    public void animateLine(int line, Animation<T> animation) {
+        Objects.requireNonNull(animation, "animation");
+        checkLineNumber(line, this.state.get().size(), true, false);
+
+        FastBoardManager manager = checkAnimationManager();
+        precomputeAnimation(animation);
+
+        setLineTemplate(line, null, false);
+        setLineAnimation(line, new AnimationSlot<>(animation));
+        manager.addAnimatedBoard(this);
+
+        updateState(this::withAnimationFrames, "Unable to update scoreboard lines");
+    }
 
-        if (checkInRange && line >= this.lines.size()) {
-            throw new IllegalArgumentException("Line number must be under " + this.lines.size());
+    /**
+     * Returns the animation of the scoreboard title.
+     *
+     * @return the title animation, or null if the title is not animated
+     */
+    public Animation<T> getTitleAnimation() {
+        AnimationSlot<T> slot = this.titleAnimation;
+        return slot != null ? slot.animation : null;
+    }
+
+    /**
+     * Returns the animation of a scoreboard line.
+     *
+     * @param line the line number
+     * @return the line animation, or null if the line is not animated
+     */
+    public Animation<T> getLineAnimation(int line) {
+        AnimationSlot<T>[] animations = this.lineAnimations;
+        AnimationSlot<T> slot = line >= 0 && line < animations.length ? animations[line] : null;
+        return slot != null ? slot.animation : null;
+    }
+
+    /**
+     * Stops the animations of the title and of all the lines. They keep displaying their current frame.
+     */
+    @SuppressWarnings("unchecked")
+    public void stopAnimations() {
+        synchronized (this.animationLock) {
+            this.titleAnimation = null;
+            this.lineAnimations = emptyAnimationSlots();
         }
 
-        if (checkMax && line >= COLOR_CODES.length) {
-            throw new IllegalArgumentException("Line number is too high: " + line);
+        FastBoardManager manager = this.manager.get();
+        if (manager != null) {
+            manager.removeAnimatedBoard(this);
         }
     }
 
-    protected int getScoreByLine(int line) {
-        return this.lines.size() - line - 1;
-    }
+    /**
+     * Sets the template of a scoreboard line. The line is rendered again with the values of the variables
+     * set by {@link #setVariable(String, Object)}, only when one of the variables it uses changes.
+     * The template is removed when the line is updated with {@link #updateLine(int, Object)} or animated,
+     * and the template of a removed line is removed with it. This stops the animation of the line, if any.
+     *
+     * @param line     the line number
+     * @param template the line template, or null to remove the template and keep the current text of the line
+     * @throws IllegalArgumentException      if the line number is out of range
+     * @throws IllegalStateException         if this FastBoard has already been deleted
+     * @throws UnsupportedOperationException if this FastBoard doesn't support templates
+     */
+    public void setLineTemplate(int line, LineTemplate template) {
+        checkNotDeleted();
+        checkLineNumber(line, this.state.get().size(), true, false);
 
-    protected T getLineByScore(int score) {
-        return getLineByScore(this.lines, score);
+        setLineAnimation(line, null);
+        if (setLineTemplate(line, template, true)) {
+            updateTemplateLines();
+        }
     }
 
-    protected T getLineByScore(List<T> lines, int score) {
-        return score < lines.size() ? lines.get(lines.size() - score - 1) : null;
+    /**
+     * Returns the template of a scoreboard line.
+     *
+     * @param line the line number
+     * @return the line template, or null if the line has no template
+     */
+    public LineTemplate getLineTemplate(int line) {
+        synchronized (this.templateLock) {
+            return line >= 0 && line < this.lineTemplates.length ? this.lineTemplates[line] : null;
+        }
     }
 
-    protected Object sendObjectivePacket(ObjectiveMode mode) throws Throwable {
-        Object objective;
-        if (BLANK_NUMBER_FORMAT != null) {
-            objective = OBJECTIVE.invoke(
-                    null, // Scoreboard, unused
-                    this.id, // Objective name
+    /**
+     * Sets the value of a template variable, and updates the lines using it if the value changed.
+     * Numbers and text are appended directly, and other values with their {@link Object#toString()}.
+     *
+     * @param name  the variable name
+     * @param value the variable value, or null to remove it
+     * @throws IllegalStateException if this FastBoard has already been deleted
+     */
+    public void setVariable(String name, Object value) {
+        Objects.requireNonNull(name, "name");
+        checkNotDeleted();
+
+        boolean changed;
+        synchronized (this.templateLock) {
+            Object previous = value != null ? this.variables.put(name, value) : this.variables.remove(name);
+
+            if (Objects.equals(previous, value)) {
+                return;
+            }
+
+            changed = renderTemplates(this.variableLines.getOrDefault(name, 0));
+        }
+
+        // Sent outside the template lock, as sending may wait for the send lock
+        if (changed) {
+            updateTemplateLines();
+        }
+    }
+
+    /**
+     * Sets the values of multiple template variables, and updates the lines using them in a single update.
+     *
+     * @param values the variable values, a null value removing the variable
+     * @throws IllegalStateException if this FastBoard has already been deleted
+     */
+    public void setVariables(Map<String, ?> values) {
+        Objects.requireNonNull(values, "values");
+        checkNotDeleted();
+
+        boolean changed;
+        synchronized (this.templateLock) {
+            int changedLines = 0;
+
+            for (Map.Entry<String, ?> entry : values.entrySet()) {
+                String name = Objects.requireNonNull(entry.getKey(), "name");
+                Object value = entry.getValue();
+                Object previous = value != null ? this.variables.put(name, value) : this.variables.remove(name);
+
+                if (!Objects.equals(previous, value)) {
+                    changedLines |= this.variableLines.getOrDefault(name, 0);
+                }
+            }
+
+            changed = renderTemplates(changedLines);
+        }
+
+        if (changed) {
+            updateTemplateLines();
+        }
+    }
+
+    /**
+     * Returns the value of a template variable.
+     *
+     * @param name the variable name
+     * @return the variable value, or null if the variable is not set
+     */
+    public Object getVariable(String name) {
+        synchronized (this.templateLock) {
+            return this.variables.get(name);
+        }
+    }
+
+    /**
+     * Returns the player who has the scoreboard. When the scoreboard is {@link #detach() detached},
+     * this is the player it was detached from.
+     *
+     * @return current player for this FastBoard
+     */
+    public Player getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * Returns the players viewing this scoreboard, including its owner unless it has been removed.
+     *
+     * @return the viewers of this FastBoard
+     */
+    public List<Player> getViewers() {
+        return Collections.unmodifiableList(new ArrayList<>(this.viewers));
+    }
+
+    /**
+     * Adds a player viewing this scoreboard. The same packets are then sent to all the viewers,
+     * so a scoreboard shared by many players is only rendered once per update.
+     * The current scoreboard is sent to the new viewer.
+     * <p>
+     * Viewers other than the owner are removed once they are offline, so a player joining again must be
+     * added again. The owner is kept, and the scoreboard can be {@link #detach() detached} when they leave.
+     *
+     * @param player the new viewer
+     * @throws IllegalStateException if this FastBoard has already been deleted
+     */
+    public void addViewer(Player player) {
+        Objects.requireNonNull(player, "player");
+
+        this.sendLock.lock();
+        try {
+            checkNotDeleted();
+            removeOfflineViewers();
+
+            if (this.viewers.contains(player)) {
+                return;
+            }
+
+            try {
+                // Existing viewers must be up to date, as the new viewer receives the current state
+                sendState(this.state.get());
+                sendFullState(player);
+            } catch (Throwable t) {
+                throw new RuntimeException("Unable to add scoreboard viewer", t);
+            }
+
+            this.viewers.add(player);
+        } finally {
+            this.sendLock.unlock();
+        }
+    }
+
+    /**
+     * Removes a player viewing this scoreboard, and removes the scoreboard from the player if they are online.
+     *
+     * @param player the viewer to remove
+     * @throws IllegalStateException if this FastBoard has already been deleted
+     */
+    public void removeViewer(Player player) {
+        Objects.requireNonNull(player, "player");
+
+        this.sendLock.lock();
+        try {
+            checkNotDeleted();
+
+            if (!this.viewers.remove(player)) {
+                return;
+            }
+
+            BoardState<T> viewerState = this.pausedViewers.remove(player);
+            int slots = (viewerState != null ? viewerState : this.sentState).usedSlots();
+
+            this.packetTargets = Collections.singletonList(player);
+            try {
+                beginPacketBatch();
+                try {
+                    for (; slots != 0; slots &= slots - 1) {
+                        sendTeamPacket(Integer.numberOfTrailingZeros(slots), TeamMode.REMOVE);
+                    }
+
+                    sendObjectivePacket(ObjectiveMode.REMOVE);
+                } finally {
+                    endPacketBatch();
+                }
+            } catch (Throwable t) {
+                throw new RuntimeException("Unable to remove scoreboard viewer", t);
+            } finally {
+                this.packetTargets = null;
+                this.packetSink.removeViewer(player);
+            }
+        } finally {
+            this.sendLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the viewers other than the owner who are no longer online, as a player joining again
+     * is a new viewer. No packet is sent to them, as they are disconnected.
+     */
+    private void removeOfflineViewers() {
+        for (Player viewer : this.viewers) {
+            if (viewer != this.player && !viewer.isOnline()) {
+                this.viewers.remove(viewer);
+                this.pausedViewers.remove(viewer);
+                this.packetSink.removeViewer(viewer);
+            }
+        }
+    }
+
+    /**
+     * Detaches this scoreboard from its player, for example when they leave the server. The scoreboard
+     * keeps its state, animations and templates, and can still be updated while it is detached.
+     * No packet is sent to the player, as their client is assumed to no longer display the scoreboard.
+     * <p>
+     * The scoreboard can then be {@link #attach(Player) attached} to the player when they join again,
+     * instead of being deleted and created again.
+     *
+     * @throws IllegalStateException if this FastBoard has already been deleted
+     */
+    public void detach() {
+        this.sendLock.lock();
+        try {
+            checkNotDeleted();
+
+            if (this.detached) {
+                return;
+            }
+
+            Player owner = this.player;
+            this.viewers.remove(owner);
+            this.pausedViewers.remove(owner);
+            this.packetSink.removeViewer(owner);
+            this.detached = true;
+        } finally {
+            this.sendLock.unlock();
+        }
+    }
+
+    /**
+     * Attaches this detached scoreboard to a player, which becomes its new owner, for example when the
+     * player joins again or is moved to this server by a proxy. The whole scoreboard is sent to the player
+     * in a single batch, without creating a new board nor rebuilding its state.
+     *
+     * @param player the new owner of the scoreboard
+     * @throws IllegalStateException if this FastBoard has already been deleted or is not detached
+     */
+    public void attach(Player player) {
+        Objects.requireNonNull(player, "player");
+
+        this.sendLock.lock();
+        try {
+            checkNotDeleted();
+
+            if (!this.detached) {
+                throw new IllegalStateException("This FastBoard is not detached");
+            }
+
+            try {
+                // Pending changes are sent first, so the other viewers and the new owner get the same state
+                sendState(this.state.get());
+
+                if (!this.viewers.contains(player)) {
+                    sendFullState(player);
+                    this.viewers.add(player);
+                }
+            } catch (Throwable t) {
+                throw new RuntimeException("Unable to attach scoreboard", t);
+            }
+
+            this.player = player;
+            this.detached = false;
+        } finally {
+            this.sendLock.unlock();
+        }
+    }
+
+    /**
+     * Returns whether this FastBoard is {@link #detach() detached} from its player.
+     *
+     * @return true if the scoreboard is detached
+     */
+    public boolean isDetached() {
+        return this.detached;
+    }
+
+    /**
+     * Returns the scoreboard ID.
+     *
+     * @return the id
+     */
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * Returns the manager sending the updates of this FastBoard, if any.
+     *
+     * @return the manager of this FastBoard, or null if updates are sent immediately
+     */
+    public FastBoardManager getManager() {
+        return this.manager.get();
+    }
+
+    /**
+     * Returns the metrics of this FastBoard, which are also added to the {@link FastBoardMetrics#global()} metrics.
+     *
+     * @return the metrics of this FastBoard
+     */
+    public FastBoardMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Returns whether this FastBoard has been deleted.
+     *
+     * @return true if the scoreboard is deleted
+     */
+    public boolean isDeleted() {
+        return this.deleted;
+    }
+
+    /**
+     * Returns whether the server supports custom scoreboard scores (1.20.3+ servers only).
+     *
+     * @return true if the server supports custom scores
+     */
+    public boolean customScoresSupported() {
+        return BLANK_NUMBER_FORMAT != null;
+    }
+
+    /**
+     * Returns the scoreboard size (the number of lines).
+     *
+     * @return the size
+     */
+    public int size() {
+        return this.state.get().size();
+    }
+
+    /**
+     * Deletes this FastBoard and removes the scoreboard from its viewers if they are online.
+     * After deletion, all scoreboard update methods will throw an {@link IllegalStateException}.
+     */
+    public void delete() {
+        this.sendLock.lock();
+        try {
+            if (this.deleted) {
+                return;
+            }
+
+            Object event = JFR_EVENTS ? FastBoardEvents.beginBoardDelete() : null;
+
+            FastBoardManager manager = this.manager.get();
+            if (manager != null) {
+                manager.unregister(this, false);
+            }
+
+            if (this.pausedViewers.isEmpty()) {
+                sendDeletePackets(this.sentState, null);
+            } else {
+                // Paused viewers may have other teams than the other viewers, so each one only removes its own
+                List<Player> upToDateViewers = new ArrayList<>(this.viewers.size());
+                for (Player viewer : this.viewers) {
+                    if (!this.pausedViewers.containsKey(viewer)) {
+                        upToDateViewers.add(viewer);
+                    }
+                }
+
+                if (!upToDateViewers.isEmpty()) {
+                    sendDeletePackets(this.sentState, upToDateViewers);
+                }
+
+                for (Map.Entry<Player, BoardState<T>> entry : this.pausedViewers.entrySet()) {
+                    sendDeletePackets(entry.getValue(), Collections.singletonList(entry.getKey()));
+                }
+            }
+
+            this.deleted = true;
+            this.pausedViewers.clear();
+            stopAnimations();
+
+            for (Player viewer : this.viewers) {
+                this.packetSink.removeViewer(viewer);
+            }
+
+            if (event != null) {
+                FastBoardEvents.commitBoardDelete(event, this.id, this.sentState.size());
+            }
+        } catch (Throwable t) {
+            throw new RuntimeException("Unable to delete scoreboard", t);
+        } finally {
+            this.sendLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the teams of a state and the objective, for the given viewers or all of them if null.
+     */
+    private void sendDeletePackets(BoardState<T> viewerState, Collection<Player> targets) throws Throwable {
+        this.packetTargets = targets;
+        beginPacketBatch();
+        try {
+            for (int slots = viewerState.usedSlots(); slots != 0; slots &= slots - 1) {
+                sendTeamPacket(Integer.numberOfTrailingZeros(slots), TeamMode.REMOVE);
+            }
+
+            sendObjectivePacket(ObjectiveMode.REMOVE);
+        } finally {
+            endPacketBatch();
+            this.packetTargets = null;
+        }
+    }
+
+    boolean compareAndSetManager(FastBoardManager expectedManager, FastBoardManager manager) {
+        return this.manager.compareAndSet(expectedManager, manager);
+    }
+
+    boolean hasPausedViewers() {
+        return !this.pausedViewers.isEmpty();
+    }
+
+    boolean hasAnimations() {
+        if (this.titleAnimation != null) {
+            return true;
+        }
+
+        for (AnimationSlot<T> slot : this.lineAnimations) {
+            if (slot != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Advances the animations by one tick, and updates the title and lines whose frame changed.
+     *
+     * @return false if this board has no animation
+     */
+    boolean tickAnimations() {
+        AnimationSlot<T> title = this.titleAnimation;
+        AnimationSlot<T>[] lines = this.lineAnimations;
+        boolean animated = title != null;
+        boolean changed = title != null && title.tick();
+
+        for (AnimationSlot<T> slot : lines) {
+            if (slot != null) {
+                animated = true;
+                changed |= slot.tick();
+            }
+        }
+
+        if (changed && !this.deleted) {
+            BoardState<T> replaced;
+            // Applied while the animations can't be moved by an inserted or removed line
+            synchronized (this.animationLock) {
+                replaced = commitState(this::withAnimationFrames);
+            }
+
+            if (replaced != null) {
+                sendChanges("Unable to update scoreboard animations");
+            }
+        }
+        return animated;
+    }
+
+    /**
+     * Returns the state with the current frame of each animation. The animations are read
+     * by the update function, so an animation stopped concurrently is never applied again.
+     */
+    private BoardState<T> withAnimationFrames(BoardState<T> state) {
+        AnimationSlot<T> titleSlot = this.titleAnimation;
+        AnimationSlot<T>[] lineSlots = this.lineAnimations;
+        T title = titleSlot != null ? titleSlot.frame() : state.title;
+        Object[] lines = state.lines;
+
+        for (int i = 0; i < lineSlots.length && i < lines.length; i++) {
+            if (lineSlots[i] == null) {
+                continue;
+            }
+
+            T frame = lineSlots[i].frame();
+            if (!Objects.equals(lines[i], frame)) {
+                if (lines == state.lines) {
+                    lines = lines.clone();
+                }
+                lines[i] = frame;
+            }
+        }
+
+        if (lines == state.lines) {
+            return title.equals(state.title) ? state : state.withTitle(title);
+        }
+        return new BoardState<>(title, lines, state.scores);
+    }
+
+    private FastBoardManager checkAnimationManager() {
+        checkNotDeleted();
+
+        FastBoardManager manager = this.manager.get();
+        if (manager == null) {
+            throw new IllegalStateException("This FastBoard must be registered to a FastBoardManager to be animated");
+        }
+        return manager;
+    }
+
+    private void precomputeAnimation(Animation<T> animation) {
+        if (!VersionType.V1_13.isHigherOrEqual()) {
+            return; // Legacy text is sent without conversion
+        }
+
+        try {
+            animation.precompute(this);
+        } catch (Throwable t) {
+            throw new RuntimeException("Unable to convert animation frames", t);
+        }
+    }
+
+    /**
+     * Sets the template of a line, and renders it if needed.
+     *
+     * @return true if the rendered line changed, and the state must be updated with {@link #updateTemplateLines()}
+     */
+    private boolean setLineTemplate(int line, LineTemplate template, boolean render) {
+        synchronized (this.templateLock) {
+            LineTemplate[] templates = this.lineTemplates;
+
+            if (template == null && (line >= templates.length || templates[line] == null)) {
+                return false;
+            }
+
+            if (line >= templates.length) {
+                this.lineTemplates = templates = Arrays.copyOf(templates, line + 1);
+                this.templateLines = Arrays.copyOf(this.templateLines, line + 1);
+            }
+
+            templates[line] = template;
+            updateVariableLines();
+
+            if (template == null) {
+                Object[] rendered = this.templateLines.clone();
+                rendered[line] = null;
+                this.templateLines = rendered;
+            } else if (render) {
+                return renderTemplates(1 << line);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Updates the lines using each variable, as a bitmask of the line numbers.
+     */
+    private void updateVariableLines() {
+        this.variableLines.clear();
+
+        for (int line = 0; line < this.lineTemplates.length; line++) {
+            LineTemplate template = this.lineTemplates[line];
+
+            if (template != null) {
+                for (String variable : template.getVariables()) {
+                    this.variableLines.merge(variable, 1 << line, (a, b) -> a | b);
+                }
+            }
+        }
+    }
+
+    /**
+     * Renders the templates of the given lines, while holding the template lock.
+     *
+     * @return true if a rendered line changed, and the state must be updated with {@link #updateTemplateLines()}
+     */
+    private boolean renderTemplates(int lines) {
+        if (lines == 0) {
+            return false;
+        }
+
+        Object[] rendered = this.templateLines.clone();
+        boolean changed = false;
+
+        for (int remaining = lines; remaining != 0; remaining &= remaining - 1) {
+            int line = Integer.numberOfTrailingZeros(remaining);
+            LineTemplate template = this.lineTemplates[line];
+            T value = templateLine(template.render(this.variables, this.templateBuilder));
+
+            if (!value.equals(rendered[line])) {
+                rendered[line] = value;
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            this.templateLines = rendered;
+        }
+        return changed;
+    }
+
+    /**
+     * Updates the state with the latest rendered templates, and sends it once the template lock is released.
+     * Concurrent renders are still all applied as the latest rendered lines are read when updating.
+     */
+    private void updateTemplateLines() {
+        checkNotDeleted();
+
+        BoardState<T> replaced;
+        // Applied while the templates can't be moved by an inserted or removed line
+        synchronized (this.templateLock) {
+            replaced = commitState(this::withTemplateLines);
+        }
+
+        if (replaced != null) {
+            sendChanges("Unable to update scoreboard lines");
+        }
+    }
+
+    /**
+     * Returns the state with the rendered template of each line.
+     */
+    private BoardState<T> withTemplateLines(BoardState<T> state) {
+        Object[] rendered = this.templateLines;
+        Object[] lines = state.lines;
+
+        for (int i = 0; i < rendered.length && i < lines.length; i++) {
+            if (rendered[i] != null && !rendered[i].equals(lines[i])) {
+                if (lines == state.lines) {
+                    lines = lines.clone();
+                }
+                lines[i] = rendered[i];
+            }
+        }
+
+        return lines == state.lines ? state : new BoardState<>(state.title, lines, state.scores);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setLineAnimation(int line, AnimationSlot<T> slot) {
+        synchronized (this.animationLock) {
+            AnimationSlot<T>[] animations = this.lineAnimations;
+
+            if (slot == null && (line >= animations.length || animations[line] == null)) {
+                return;
+            }
+
+            AnimationSlot<T>[] newAnimations = Arrays.copyOf(animations, Math.max(animations.length, line + 1));
+            newAnimations[line] = slot;
+            this.lineAnimations = newAnimations;
+        }
+    }
+
+    /**
+     * Returns the animation of the line displayed with a score in the state being sent.
+     */
+    private Animation<T> lineAnimationByScore(int score) {
+        AnimationSlot<T>[] animations = this.lineAnimations;
+        int line = renderedState().lineOfSlot(score);
+        AnimationSlot<T> slot = line >= 0 && line < animations.length ? animations[line] : null;
+        return slot != null ? slot.animation : null;
+    }
+
+    /**
+     * Atomically replaces the current state with the updated state, then sends the changes.
+     * The update function may be called multiple times when other threads update the board concurrently,
+     * and returns the same state when there is nothing to change.
+     *
+     * @return the replaced state, or null if the state didn't change
+     */
+    private BoardState<T> updateState(UnaryOperator<BoardState<T>> update, String errorMessage) {
+        checkNotDeleted();
+
+        BoardState<T> replaced = commitState(update);
+        if (replaced != null) {
+            sendChanges(errorMessage);
+        }
+        return replaced;
+    }
+
+    /**
+     * Atomically replaces the current state with the updated state, without sending the changes.
+     * Used while holding the animation or template lock, so the animations or templates are moved
+     * in the same step as the lines, and the changes are then sent with {@link #sendChanges(String)}
+     * once the lock is released.
+     *
+     * @return the replaced state, or null if the state didn't change
+     */
+    private BoardState<T> commitState(UnaryOperator<BoardState<T>> update) {
+        BoardState<T> current;
+        BoardState<T> updated;
+        do {
+            current = this.state.get();
+            updated = update.apply(current);
+
+            if (updated == current) {
+                this.metrics.recordSuppressedUpdate();
+                return null;
+            }
+
+            if (customScoresSupported() && hasHiddenScores()) {
+                updated = updated.withLayout(current);
+            }
+        } while (!this.state.compareAndSet(current, updated));
+
+        return current;
+    }
+
+    /**
+     * Sends the changes made since the last update, or lets the manager send them on the next tick
+     * when this board is registered to a {@link FastBoardManager}.
+     */
+    private void sendChanges(String errorMessage) {
+        FastBoardManager manager = this.manager.get();
+
+        if (manager != null) {
+            manager.markDirty(this);
+            return;
+        }
+
+        try {
+            sendPendingChanges();
+        } catch (Throwable t) {
+            throw new RuntimeException(errorMessage, t);
+        }
+    }
+
+    /**
+     * Sends the difference between the current state of this board and the state last sent to the viewers.
+     * When another thread is already sending this board, it also sends the new changes and this method
+     * returns immediately, so updating threads never wait for each other.
+     */
+    void sendPendingChanges() throws Throwable {
+        if (this.sendRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        try {
+            do {
+                this.sendLock.lock();
+                try {
+                    if (!this.deleted) {
+                        sendState(this.state.get());
+                    }
+                } finally {
+                    this.sendLock.unlock();
+                }
+
+                missed = this.sendRequests.addAndGet(-missed);
+            } while (missed != 0);
+        } catch (Throwable t) {
+            this.sendRequests.set(0);
+            throw t;
+        }
+    }
+
+    private void sendState(BoardState<T> target) throws Throwable {
+        removeOfflineViewers();
+        BoardState<T> sent = this.sentState;
+
+        if (!pauseSlowViewers()) {
+            if (sent != target) {
+                // Only recorded once sent, so a failed update is sent again with the next one
+                sendStateChanges(sent, target, null);
+                this.sentState = target;
+            }
+            return;
+        }
+
+        if (sent == target && this.pausedViewers.isEmpty()) {
+            return;
+        }
+
+        List<Player> readyViewers = new ArrayList<>(this.viewers.size());
+        List<Player> resumedViewers = null;
+
+        for (Player viewer : this.viewers) {
+            BoardState<T> viewerState = this.pausedViewers.get(viewer);
+
+            if (viewerState == null && (sent == target || this.packetSink.isReady(viewer))) {
+                readyViewers.add(viewer);
+            } else if (viewerState == null) {
+                // Only the last state is needed, so the intermediate states are not kept
+                this.pausedViewers.put(viewer, sent);
+            } else if (this.packetSink.isReady(viewer)) {
+                if (resumedViewers == null) {
+                    resumedViewers = new ArrayList<>();
+                }
+                resumedViewers.add(viewer);
+            }
+        }
+
+        if (sent != target) {
+            if (!readyViewers.isEmpty()) {
+                sendStateChanges(sent, target, readyViewers);
+            }
+            this.sentState = target;
+        }
+
+        // Each paused viewer is only resumed once it received the changes since its own state
+        if (resumedViewers != null) {
+            for (Player viewer : resumedViewers) {
+                sendStateChanges(this.pausedViewers.get(viewer), target, Collections.singletonList(viewer));
+                this.pausedViewers.remove(viewer);
+            }
+        }
+    }
+
+    /**
+     * Sends the whole state last sent to the viewers to a single player, in one packet batch.
+     */
+    private void sendFullState(Player viewer) throws Throwable {
+        this.packetTargets = Collections.singletonList(viewer);
+        this.renderedState = this.sentState;
+        beginPacketBatch();
+        try {
+            Object objective = sendObjectivePacket(ObjectiveMode.CREATE);
+            sendDisplayObjectivePacket(objective);
+
+            for (int slots = this.sentState.usedSlots(); slots != 0; slots &= slots - 1) {
+                int score = Integer.numberOfTrailingZeros(slots);
+                sendScorePacket(score, ScoreboardAction.CHANGE);
+                sendTeamPacket(score, TeamMode.CREATE, null, null);
+                sendLineChange(score);
+            }
+        } finally {
+            this.renderedState = null;
+            endPacketBatch();
+            this.packetTargets = null;
+        }
+    }
+
+    /**
+     * Sends the difference between two states, to the given viewers or to all the viewers if null.
+     */
+    private void sendStateChanges(BoardState<T> from, BoardState<T> to, Collection<Player> targets) throws Throwable {
+        this.packetTargets = targets;
+        this.renderedState = to;
+        beginPacketBatch();
+        try {
+            if (!from.title.equals(to.title)) {
+                sendObjectivePacket(ObjectiveMode.UPDATE);
+            }
+
+            sendLinesChanges(from, to);
+        } finally {
+            this.renderedState = null;
+            endPacketBatch();
+            this.packetTargets = null;
+        }
+    }
+
+    private void sendLinesChanges(BoardState<T> sent, BoardState<T> target) throws Throwable {
+        // There are at most COLOR_CODES.length lines, so the slots of the lines fit in a bitmask
+        int sentSlots = sent.usedSlots();
+        int targetSlots = target.usedSlots();
+
+        for (int removed = sentSlots & ~targetSlots; removed != 0; removed &= ~Integer.highestOneBit(removed)) {
+            int score = 31 - Integer.numberOfLeadingZeros(removed);
+            sendTeamPacket(score, TeamMode.REMOVE);
+            sendScorePacket(score, ScoreboardAction.REMOVE);
+        }
+
+        int added = targetSlots & ~sentSlots;
+        for (int slots = added; slots != 0; slots &= slots - 1) {
+            int score = Integer.numberOfTrailingZeros(slots);
+            sendScorePacket(score, ScoreboardAction.CHANGE);
+            sendTeamPacket(score, TeamMode.CREATE, null, null);
+        }
+
+        int changedLines = 0;
+        int changedScores = 0;
+
+        for (int i = 0; i < target.size(); i++) {
+            int score = target.slot(i);
+            int sentLine = sent.lineOfSlot(score);
+
+            if (sentLine < 0 || !Objects.equals(sent.line(sentLine), target.line(i))) {
+                changedLines |= 1 << score;
+            }
+            // The score packet of the added slots already has the new value and format
+            if (sentLine >= 0 && (sent.value(sentLine) != target.value(i)
+                    || (customScoresSupported() && !Objects.equals(sent.score(sentLine), target.score(i))))) {
+                changedScores |= 1 << score;
+            }
+        }
+
+        for (int changes = changedLines | changedScores; changes != 0; changes &= changes - 1) {
+            int score = Integer.numberOfTrailingZeros(changes);
+
+            if ((changedLines & (1 << score)) != 0) {
+                sendLineChange(score);
+            }
+            if ((changedScores & (1 << score)) != 0) {
+                sendScorePacket(score, ScoreboardAction.CHANGE);
+            }
+        }
+    }
+
+    protected abstract void sendLineChange(int score) throws Throwable;
+
+    protected abstract Object toMinecraftComponent(T value) throws Throwable;
+
+    protected abstract String serializeLine(T value);
+
+    protected abstract T emptyLine();
+
+    /**
+     * Converts a rendered {@link LineTemplate} to a line. Boards that don't override this method don't support templates.
+     *
+     * @param text the rendered template
+     * @return the line
+     */
+    protected T templateLine(String text) {
+        throw new UnsupportedOperationException("Line templates are not supported by " + getClass().getName());
+    }
+
+    private void checkNotDeleted() {
+        if (this.deleted) {
+            throw new IllegalStateException("This FastBoard is deleted");
+        }
+    }
+
+    private void checkLineNumber(int line, int size, boolean checkInRange, boolean checkMax) {
+        if (line < 0) {
+            throw new IllegalArgumentException("Line number must be positive");
+        }
+
+        if (checkInRange && line >= size) {
+            throw new IllegalArgumentException("Line number must be under " + size);
+        }
+
+        if (checkMax && line >= COLOR_CODES.length) {
+            throw new IllegalArgumentException("Line number is too high: " + line);
+        }
+    }
+
+    /**
+     * Returns the state being sent, or the current state outside of sending.
+     */
+    private BoardState<T> renderedState() {
+        BoardState<T> rendered = this.renderedState;
+        return rendered != null ? rendered : this.state.get();
+    }
+
+    protected int getScoreByLine(int line) {
+        return renderedState().slot(line);
+    }
+
+    protected T getLineByScore(int score) {
+        return renderedState().lineBySlot(score);
+    }
+
+    protected Object sendObjectivePacket(ObjectiveMode mode) throws Throwable {
+        T title = renderedState().title;
+        Object objective;
+        if (BLANK_NUMBER_FORMAT != null) {
+            objective = OBJECTIVE.invoke(
+                    null, // Scoreboard, unused
+                    this.objectiveName, // Objective name
                     null, // Criteria, unused
-                    toMinecraftComponent(this.title), // Display name
+                    titleComponent(title), // Display name
                     ENUM_SB_HEALTH_DISPLAY_INTEGER, // Render type
                     false, // Auto-update, unused
                     null // Number format
@@ -669,191 +2171,1091 @@ public abstract class FastBoardBase<T> {
         } else if (VersionType.V1_17.isHigherOrEqual()) {
             objective = OBJECTIVE.invoke(
                     null, // Scoreboard, unused
-                    this.id, // Objective name
+                    this.objectiveName, // Objective name
                     null, // Criteria, unused
-                    toMinecraftComponent(this.title), // Display name
+                    titleComponent(title), // Display name
                     ENUM_SB_HEALTH_DISPLAY_INTEGER // Render type
             );
         } else if (VersionType.V1_13.isHigherOrEqual()) {
             objective = OBJECTIVE.invoke(
                     null, // Scoreboard, unused
-                    this.id, // Objective name
+                    this.objectiveName, // Objective name
                     null, // Criteria, unused
-                    toMinecraftComponent(this.title), // Display name
+                    titleComponent(title), // Display name
                     ENUM_SB_HEALTH_DISPLAY_INTEGER // Render type
             );
         } else {
             objective = OBJECTIVE.invoke(
                     null, // Scoreboard, unused
-                    this.id, // Objective name
+                    this.objectiveName, // Objective name
                     DUMMY_SCOREBOARD_CRITERIA // Criteria
             );
-            setComponentField(objective, this.title, 1);
+            setComponentField(OBJECTIVE_DISPLAY_NAME, objective, title);
+        }
+
+        Object packet = PACKET_SB_OBJ.invoke(objective, mode.ordinal());
+        sendPacket(packet, FastBoardMetrics.PacketType.OBJECTIVE);
+        return objective;
+    }
+
+    protected void sendDisplayObjectivePacket(Object objective) throws Throwable {
+        Object packet = PACKET_SB_DISPLAY_OBJ.invoke(
+                SIDEBAR_DISPLAY_SLOT, // Position
+                objective // Score Name
+        );
+        sendPacket(packet, FastBoardMetrics.PacketType.OBJECTIVE);
+    }
+
+    protected void sendScorePacket(int score, ScoreboardAction action) throws Throwable {
+        if (VersionType.V1_17.isHigherOrEqual()) {
+            sendModernScorePacket(score, action);
+            return;
+        }
+
+        Object packet = PACKET_SB_SET_SCORE.invoke();
+
+        SCORE_PLAYER_NAME.invoke(packet, COLOR_CODES[score]); // Player Name
+
+        if (VersionType.V1_8.isHigherOrEqual()) {
+            Object enumAction = action == ScoreboardAction.REMOVE
+                    ? ENUM_SB_ACTION_REMOVE : ENUM_SB_ACTION_CHANGE;
+            SCORE_ACTION.invoke(packet, enumAction);
+        } else {
+            SCORE_ACTION.invoke(packet, action.ordinal()); // Action
+        }
+
+        if (action == ScoreboardAction.CHANGE) {
+            SCORE_OBJECTIVE_NAME.invoke(packet, this.objectiveName); // Objective Name
+            SCORE_VALUE.invoke(packet, scoreValue(score)); // Score
+        }
+
+        sendPacket(packet, scorePacketType(action));
+    }
+
+    private void sendModernScorePacket(int score, ScoreboardAction action) throws Throwable {
+        String objName = COLOR_CODES[score];
+        Object enumAction = action == ScoreboardAction.REMOVE
+                ? ENUM_SB_ACTION_REMOVE : ENUM_SB_ACTION_CHANGE;
+
+        if (PACKET_SB_RESET_SCORE == null) { // Pre 1.20.3
+            sendPacket(PACKET_SB_SET_SCORE.invoke(enumAction, this.objectiveName, objName, scoreValue(score)), scorePacketType(action));
+            return;
+        }
+
+        if (action == ScoreboardAction.REMOVE) {
+            sendPacket(PACKET_SB_RESET_SCORE.invoke(objName, this.objectiveName), FastBoardMetrics.PacketType.RESET_SCORE);
+            return;
+        }
+
+        T scoreFormat = renderedState().scoreBySlot(score);
+        Object format = scoreFormat != null
+                ? FIXED_NUMBER_FORMAT.invoke(minecraftComponent(scoreFormat))
+                : BLANK_NUMBER_FORMAT;
+        int value = scoreValue(score);
+        Object scorePacket = SCORE_OPTIONAL_COMPONENTS
+                ? PACKET_SB_SET_SCORE.invoke(objName, this.objectiveName, value, Optional.empty(), Optional.of(format))
+                : PACKET_SB_SET_SCORE.invoke(objName, this.objectiveName, value, null, format);
+
+        sendPacket(scorePacket, FastBoardMetrics.PacketType.SCORE);
+    }
+
+    /**
+     * Returns the value sent for a score, which orders the lines on the scoreboard.
+     */
+    private int scoreValue(int score) {
+        BoardState<T> rendered = renderedState();
+        int line = rendered.lineOfSlot(score);
+        return line >= 0 ? rendered.value(line) : score;
+    }
+
+    protected void sendTeamPacket(int score, TeamMode mode) throws Throwable {
+        sendTeamPacket(score, mode, null, null);
+    }
+
+    protected void sendTeamPacket(int score, TeamMode mode, T prefix, T suffix)
+            throws Throwable {
+        if (mode == TeamMode.ADD_PLAYERS || mode == TeamMode.REMOVE_PLAYERS) {
+            throw new UnsupportedOperationException();
+        }
+
+        String teamName = this.teamNames[score];
+        Object packet;
+        if (mode == TeamMode.REMOVE) {
+            if (VersionType.V1_17.isHigherOrEqual()) {
+                packet = PACKET_SB_TEAM.invoke(
+                        teamName, // Team name
+                        mode.ordinal(), // Update mode
+                        Optional.empty(), // Serializable team, unused
+                        Collections.emptyList() // Players
+                );
+            } else {
+                packet = PACKET_SB_TEAM.invoke();
+                TEAM_NAME.invoke(packet, teamName); // Team name
+                TEAM_MODE.invoke(packet, mode.ordinal()); // Update mode
+            }
+            sendPacket(packet, FastBoardMetrics.PacketType.TEAM);
+            return;
+        }
+
+        Animation<T> animation = lineAnimationByScore(score);
+
+        if (VersionType.V1_17.isHigherOrEqual()) {
+            // The team is only used to create the serializable team, which copies its values, so it can be reused
+            Object team = this.teams[score];
+            if (team == null) {
+                team = PLAYER_TEAM.invoke(null, teamName);
+                setComponentField(PLAYER_TEAM_DISPLAY_NAME, team, null); // Display name
+                this.teams[score] = team;
+            }
+            setComponentField(PLAYER_TEAM_PREFIX, team, prefix, animation); // Prefix
+            setComponentField(PLAYER_TEAM_SUFFIX, team, suffix, animation); // Suffix
+            Object serializableTeam = PACKET_SB_SERIALIZABLE_TEAM.invoke(team);
+            packet = PACKET_SB_TEAM.invoke(
+                    teamName, // Team name
+                    mode.ordinal(), // Update mode
+                    Optional.of(serializableTeam), // Serializable team
+                    mode == TeamMode.CREATE ? TEAM_PLAYERS_LISTS.get(score) : Collections.emptyList() // Players
+            );
+        } else {
+            packet = PACKET_SB_TEAM.invoke();
+            TEAM_NAME.invoke(packet, teamName); // Team name
+            TEAM_MODE.invoke(packet, mode.ordinal()); // Update mode
+            setComponentField(TEAM_PREFIX, packet, prefix, animation); // Prefix
+            setComponentField(TEAM_SUFFIX, packet, suffix, animation); // Suffix
+            TEAM_VISIBILITY.invoke(packet, "always"); // Visibility for 1.8+
+            TEAM_COLLISION.invoke(packet, "always"); // Collisions for 1.9+
+            if (mode == TeamMode.CREATE) {
+                TEAM_PLAYERS.invoke(packet, TEAM_PLAYERS_LISTS.get(score)); // Players in the team
+            }
+        }
+
+        sendPacket(packet, FastBoardMetrics.PacketType.TEAM);
+    }
+
+    /**
+     * Starts grouping the packets sent by this board, until the matching {@link #endPacketBatch()}.
+     * Batches can be nested, only the outermost one sends the packets.
+     */
+    private void beginPacketBatch() {
+        this.batchDepth++;
+    }
+
+    /**
+     * Ends the current packet batch. When ending the outermost batch, the grouped packets are sent
+     * in a single bundle packet on 1.19.4+, or one by one on older versions.
+     * When {@link #flushOncePerUpdate()} is enabled on older versions, the packets are instead written
+     * to the player channel without flushing, and the channel is flushed once after the last packet.
+     */
+    private void endPacketBatch() throws Throwable {
+        if (--this.batchDepth > 0 || this.packetBatch.isEmpty()) {
+            return;
+        }
+
+        List<Object> packets = new ArrayList<>(this.packetBatch);
+        this.packetBatch.clear();
+
+        sendPacketsNow(packets);
+    }
+
+    private void sendPacket(Object packet, FastBoardMetrics.PacketType type) throws Throwable {
+        if (this.deleted) {
+            throw new IllegalStateException("This FastBoard is deleted");
+        }
+
+        // The packets of a bulk creation are recorded by each board once they are sent
+        BulkCreation<T> capture = this.packetCapture;
+        if (capture != null) {
+            capture.packetCounts[type.ordinal()]++;
+        } else {
+            this.metrics.recordPackets(type, packetTargets().size());
+        }
+
+        if (this.batchDepth > 0) {
+            this.packetBatch.add(packet);
+            return;
+        }
+
+        sendPacketsNow(Collections.singletonList(packet));
+    }
+
+    /**
+     * Sends the packets to all the viewers, or only to the packet targets while a viewer is added, removed or catching up.
+     * The packets are created only once, and the same instances are sent to every viewer.
+     */
+    private void sendPacketsNow(List<Object> packets) throws Throwable {
+        BulkCreation<T> capture = this.packetCapture;
+        if (capture != null) {
+            capture.packets.addAll(packets);
+            return;
+        }
+
+        Object event = JFR_EVENTS ? FastBoardEvents.beginPacketSend() : null;
+        long start = System.nanoTime();
+        try {
+            this.packetSink.sendPackets(packetTargets(), packets);
+        } catch (Throwable t) {
+            this.metrics.recordSendFailure();
+            throw t;
+        } finally {
+            this.metrics.recordSend(System.nanoTime() - start);
+
+            if (event != null) {
+                FastBoardEvents.commitPacketSend(event, this.id, packets, packetTargets().size());
+            }
+        }
+    }
+
+    private Collection<Player> packetTargets() {
+        Collection<Player> targets = this.packetTargets;
+        return targets != null ? targets : this.viewers;
+    }
+
+    private static FastBoardMetrics.PacketType scorePacketType(ScoreboardAction action) {
+        return action == ScoreboardAction.REMOVE ? FastBoardMetrics.PacketType.RESET_SCORE : FastBoardMetrics.PacketType.SCORE;
+    }
+
+    private static List<Object> bundlePackets(List<Object> packets) throws Throwable {
+        if (PACKET_BUNDLE != null && packets.size() > 1) {
+            return Collections.singletonList(PACKET_BUNDLE.invoke(packets));
+        }
+
+        return packets;
+    }
+
+    Object minecraftComponent(T value) throws Throwable {
+        this.metrics.recordComponentConversion();
+        return toMinecraftComponent(value);
+    }
+
+    private Object titleComponent(T title) throws Throwable {
+        AnimationSlot<T> slot = this.titleAnimation;
+        return slot != null ? slot.animation.component(this, title) : minecraftComponent(title);
+    }
+
+    private void setComponentField(MethodHandle fieldSetter, Object packet, T value) throws Throwable {
+        setComponentField(fieldSetter, packet, value, null);
+    }
+
+    /**
+     * Sets a component field, using the components already converted by the animation if any.
+     */
+    private void setComponentField(MethodHandle fieldSetter, Object packet, T value, Animation<T> animation) throws Throwable {
+        if (!VersionType.V1_13.isHigherOrEqual()) {
+            String line = value != null ? serializeLine(value) : "";
+            fieldSetter.invoke(packet, line);
+            return;
+        }
+
+        fieldSetter.invoke(packet, animation != null ? animation.component(this, value) : minecraftComponent(value));
+    }
+
+    private static MethodHandle fieldSetter(MethodHandles.Lookup lookup, String key, Class<?> declaringClass, Class<?> fieldType, int index)
+            throws ReflectiveOperationException {
+        return fieldSetter(lookup, key, declaringClass, type -> type == fieldType, index);
+    }
+
+    /**
+     * Returns a setter for the n-th non-static field of a class matching the type predicate,
+     * or for the field cached with the given key. When there is no such field, the returned setter does nothing.
+     */
+    private static MethodHandle fieldSetter(MethodHandles.Lookup lookup, String key, Class<?> declaringClass, Predicate<Class<?>> fieldType, int index)
+            throws ReflectiveOperationException {
+        Predicate<Field> fieldPredicate = f -> f.getDeclaringClass() == declaringClass
+                && !Modifier.isStatic(f.getModifiers()) && fieldType.test(f.getType());
+        Optional<Field> field = MappingCache.field(key, declaringClass, fieldPredicate, () -> Arrays.stream(declaringClass.getDeclaredFields())
+                .filter(fieldPredicate)
+                .skip(index)
+                .findFirst());
+
+        if (!field.isPresent()) {
+            MethodHandle noOp = MethodHandles.constant(Object.class, null);
+            return MethodHandles.dropArguments(noOp, 0, declaringClass, Object.class);
+        }
+
+        try {
+            return lookup.unreflectSetter(field.get());
+        } catch (IllegalAccessException e) {
+            // Final fields may not be accessible with method handles on some Java versions
+            return lookup.findVirtual(Field.class, "set", MethodType.methodType(void.class, Object.class, Object.class)).bindTo(field.get());
+        }
+    }
+
+    /**
+     * Returns whether the packets of a single update should be written to the player channel
+     * without flushing, with only one flush after the last packet. This is only used before 1.19.4,
+     * when packets can't be sent in a single bundle, the packets are otherwise sent and flushed one by one.
+     * The packets are written from the event loop of the channel, so they stay in order with the packets
+     * sent by the server, but they don't go through the packet queue of the connection.
+     * Disabled by default, override this method to enable it.
+     *
+     * @return true to flush the player connection only once per update
+     */
+    protected boolean flushOncePerUpdate() {
+        return false;
+    }
+
+    /**
+     * Returns whether the score values are hidden to the viewers, which is the case for 1.20.3+ clients
+     * where each line has a blank or custom score format. The lines are then ordered by score values
+     * that are not their position, so inserting or removing a line only adds or removes its team and score,
+     * instead of updating the team of each following line. This is only used on 1.20.3+ servers.
+     * Disabled by default, as pre-1.20.3 clients connected with ViaBackwards display the score values,
+     * override this method to enable it when all the viewers use 1.20.3+ clients.
+     *
+     * @return true if the score values are not displayed to the viewers
+     */
+    protected boolean hasHiddenScores() {
+        return false;
+    }
+
+    /**
+     * Returns whether the updates should be paused for the viewers whose connection can't keep up,
+     * according to {@link PacketSink#isReady(Player)}. The default sink pauses a viewer when its
+     * connection is not writable, or has more than {@link #maxPendingBytes()} bytes waiting to be written.
+     * Paused viewers don't receive the intermediate states of the scoreboard, and only receive the
+     * difference with its latest state once they are ready again. This happens on the next update,
+     * or on the next tick for boards registered to a {@link FastBoardManager}.
+     * Disabled by default, override this method to enable it.
+     *
+     * @return true to pause the updates for slow viewers
+     */
+    protected boolean pauseSlowViewers() {
+        return false;
+    }
+
+    /**
+     * Returns the maximum number of bytes waiting to be written to the connection of a viewer, before
+     * the updates are paused for this viewer. This is only used when {@link #pauseSlowViewers()} is enabled.
+     * By default, there is no limit and the updates are only paused when the connection is not writable.
+     *
+     * @return the maximum number of pending bytes for each viewer
+     */
+    protected long maxPendingBytes() {
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the encoder used to encode the packets only once when this scoreboard has multiple viewers,
+     * and then write the same bytes to each viewer. {@link PacketEncoder#netty()} returns the default encoder,
+     * which encodes and writes the packets on the event loop of the channels, and sends the packets normally
+     * to the viewers whose channel has handlers added by plugins, like protocol translators or packet listeners.
+     * Disabled by default, override this method to enable it.
+     *
+     * @return the packet encoder, or null to send packets normally
+     */
+    protected PacketEncoder packetEncoder() {
+        return null;
+    }
+
+    /**
+     * Default packet sink, sending the packets to the player connections.
+     */
+    private final class ConnectionPacketSink implements PacketSink {
+
+        private final Map<Player, PlayerConnection> connections = new HashMap<>();
+
+        @Override
+        public void sendPackets(Player viewer, List<Object> packets) throws Throwable {
+            PlayerConnection connection = connection(viewer);
+
+            if (connection != null) {
+                sendBundledPackets(connection, bundlePackets(packets));
+            }
+        }
+
+        @Override
+        public void sendPackets(Collection<Player> viewers, List<Object> packets) throws Throwable {
+            PacketEncoder encoder = viewers.size() > 1 && PLAYER_CONNECTION_CHANNEL != null ? packetEncoder() : null;
+            if (encoder != null) {
+                sendEncodedPackets(encoder, viewers, packets);
+                return;
+            }
+
+            List<Object> bundledPackets = bundlePackets(packets);
+            for (Player viewer : viewers) {
+                PlayerConnection connection = connection(viewer);
+
+                if (connection != null) {
+                    sendBundledPackets(connection, bundledPackets);
+                }
+            }
         }
 
-        Object packet = PACKET_SB_OBJ.invoke(objective, mode.ordinal());
-        sendPacket(packet);
-        return objective;
-    }
+        @Override
+        public boolean isReady(Player viewer) throws Throwable {
+            PlayerConnection connection = CHANNEL_IS_WRITABLE != null ? connection(viewer) : null;
 
-    protected void sendDisplayObjectivePacket(Object objective) throws Throwable {
-        Object packet = PACKET_SB_DISPLAY_OBJ.invoke(
-                SIDEBAR_DISPLAY_SLOT, // Position
-                objective // Score Name
-        );
-        sendPacket(packet);
-    }
+            if (connection == null) {
+                return true;
+            }
 
-    protected void sendScorePacket(int score, ScoreboardAction action) throws Throwable {
-        if (VersionType.V1_17.isHigherOrEqual()) {
-            sendModernScorePacket(score, action);
-            return;
+            Object channel = connection.channel();
+            if (channel == null) {
+                return true;
+            }
+
+            if (!(boolean) CHANNEL_IS_WRITABLE.invoke(channel)) {
+                return false;
+            }
+
+            long maxPendingBytes = maxPendingBytes();
+            if (maxPendingBytes == Long.MAX_VALUE || OUTBOUND_BUFFER_PENDING_BYTES == null) {
+                return true;
+            }
+
+            // The outbound buffer is null once the channel is closed
+            Object outboundBuffer = CHANNEL_OUTBOUND_BUFFER.invoke(channel);
+            return outboundBuffer == null || (long) OUTBOUND_BUFFER_PENDING_BYTES.invoke(outboundBuffer) <= maxPendingBytes;
         }
 
-        Object packet = PACKET_SB_SET_SCORE.invoke();
+        @Override
+        public void removeViewer(Player viewer) {
+            this.connections.remove(viewer);
+        }
+
+        /**
+         * Returns the connection of an online viewer, resolved again only when the player handle changes.
+         */
+        private PlayerConnection connection(Player viewer) throws Throwable {
+            if (!viewer.isOnline()) {
+                this.connections.remove(viewer);
+                return null;
+            }
 
-        setField(packet, String.class, COLOR_CODES[score], 0); // Player Name
+            Object entityPlayer = PLAYER_GET_HANDLE.invoke(viewer);
+            PlayerConnection connection = this.connections.get(viewer);
 
-        if (VersionType.V1_8.isHigherOrEqual()) {
-            Object enumAction = action == ScoreboardAction.REMOVE
-                    ? ENUM_SB_ACTION_REMOVE : ENUM_SB_ACTION_CHANGE;
-            setField(packet, ENUM_SB_ACTION, enumAction);
-        } else {
-            setField(packet, int.class, action.ordinal(), 1); // Action
+            if (connection == null || connection.entityPlayer != entityPlayer) {
+                connection = new PlayerConnection(entityPlayer, PLAYER_CONNECTION.invoke(entityPlayer));
+                this.connections.put(viewer, connection);
+            }
+
+            return connection;
         }
 
-        if (action == ScoreboardAction.CHANGE) {
-            setField(packet, String.class, this.id, 1); // Objective Name
-            setField(packet, int.class, score); // Score
+        /**
+         * Sends the packets to all the viewers, encoding each packet only once for all the viewers
+         * with the same encoding. Bundles are sent as encoded packets between two bundle delimiters.
+         * The packets are encoded and written on the executor of the viewer channels, so only the order
+         * with the other packets sent to a channel is kept once this method returns.
+         */
+        private void sendEncodedPackets(PacketEncoder encoder, Collection<Player> viewers, List<Object> packets) throws Throwable {
+            List<Object> framedPackets = packets;
+
+            if (PACKET_BUNDLE_DELIMITER != null && packets.size() > 1) {
+                framedPackets = new ArrayList<>(packets.size() + 2);
+                framedPackets.add(PACKET_BUNDLE_DELIMITER);
+                framedPackets.addAll(packets);
+                framedPackets.add(PACKET_BUNDLE_DELIMITER);
+            }
+
+            List<Object> bundledPackets = bundlePackets(packets);
+            Map<Object, EncodedPackets> encodedPackets = new HashMap<>();
+
+            for (Player viewer : viewers) {
+                PlayerConnection connection = connection(viewer);
+
+                if (connection == null) {
+                    continue;
+                }
+
+                Object channel = connection.channel();
+                Object encodingKey = channel != null ? encoder.encodingKey(channel) : null;
+
+                if (encodingKey == null) {
+                    sendBundledPackets(connection, bundledPackets);
+                    continue;
+                }
+
+                EncodedPackets encoded = encodedPackets.get(encodingKey);
+                if (encoded == null) {
+                    encoded = new EncodedPackets(encoder, framedPackets, bundledPackets);
+                    encodedPackets.put(encodingKey, encoded);
+                }
+
+                encoded.addTarget(connection, channel, encoder.executor(channel));
+            }
+
+            for (EncodedPackets encoded : encodedPackets.values()) {
+                encoded.send();
+            }
+        }
+
+        private void sendBundledPackets(PlayerConnection connection, List<Object> packets) throws Throwable {
+            if (packets.size() > 1 && CHANNEL_WRITE != null && flushOncePerUpdate()) {
+                Object channel = connection.channel();
+
+                if (channel != null) {
+                    writeWithoutFlush(channel, packets);
+                    return;
+                }
+            }
+
+            for (Object packet : packets) {
+                SEND_PACKET.invoke(connection.playerConnection, packet);
+            }
+        }
+
+        /**
+         * Writes the packets to a channel and flushes it once. The packets are written from the event loop
+         * of the channel, like the packets the server sends from other threads, so they keep their order.
+         */
+        private void writeWithoutFlush(Object channel, List<Object> packets) throws Throwable {
+            Executor eventLoop = (Executor) CHANNEL_EVENT_LOOP.invoke(channel);
+
+            try {
+                eventLoop.execute(() -> {
+                    try {
+                        for (Object packet : packets) {
+                            CHANNEL_WRITE.invoke(channel, packet);
+                        }
+                        CHANNEL_FLUSH.invoke(channel);
+                    } catch (Throwable t) {
+                        throw new RuntimeException("Unable to send scoreboard packets", t);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // The channel is closed, so the player is disconnecting
+            }
+        }
+
+        /**
+         * Packets encoded once for the channels with the same encoding key. They are encoded on the executor
+         * of the first channel writing them, and released once they have been written to every channel.
+         * If they can't be encoded, they are sent normally through the player connections instead.
+         */
+        private final class EncodedPackets {
+
+            private final PacketEncoder encoder;
+            private final List<Object> framedPackets;
+            private final List<Object> bundledPackets;
+            private final List<PlayerConnection> connections = new ArrayList<>();
+            private final List<Object> channels = new ArrayList<>();
+            private final List<Executor> executors = new ArrayList<>();
+            private final AtomicInteger remainingTargets = new AtomicInteger();
+            private List<Object> encoded;
+            private boolean encodingFailed;
+
+            EncodedPackets(PacketEncoder encoder, List<Object> framedPackets, List<Object> bundledPackets) {
+                this.encoder = encoder;
+                this.framedPackets = framedPackets;
+                this.bundledPackets = bundledPackets;
+            }
+
+            void addTarget(PlayerConnection connection, Object channel, Executor executor) {
+                this.connections.add(connection);
+                this.channels.add(channel);
+                this.executors.add(executor);
+            }
+
+            void send() {
+                this.remainingTargets.set(this.connections.size());
+
+                for (int i = 0; i < this.connections.size(); i++) {
+                    PlayerConnection connection = this.connections.get(i);
+                    Object channel = this.channels.get(i);
+
+                    try {
+                        this.executors.get(i).execute(() -> write(connection, channel));
+                    } catch (RejectedExecutionException e) {
+                        // The channel is closed, so the player is disconnecting
+                        targetDone();
+                    }
+                }
+            }
+
+            private void write(PlayerConnection connection, Object channel) {
+                try {
+                    List<Object> encodedPackets = encode(channel);
+
+                    if (encodedPackets == null) {
+                        sendBundledPackets(connection, this.bundledPackets);
+                        return;
+                    }
+
+                    for (Object encodedPacket : encodedPackets) {
+                        this.encoder.write(channel, encodedPacket);
+                    }
+                    this.encoder.flush(channel);
+                } catch (Throwable t) {
+                    throw new RuntimeException("Unable to send encoded scoreboard packets", t);
+                } finally {
+                    targetDone();
+                }
+            }
+
+            /**
+             * Returns the encoded packets, encoding them with the given channel if they are not encoded yet.
+             *
+             * @return the encoded packets, or null if they can't be encoded
+             */
+            private synchronized List<Object> encode(Object channel) throws Throwable {
+                if (this.encoded != null || this.encodingFailed) {
+                    return this.encoded;
+                }
+
+                List<Object> encodedPackets = new ArrayList<>(this.framedPackets.size());
+                try {
+                    for (Object packet : this.framedPackets) {
+                        encodedPackets.add(this.encoder.encode(channel, packet));
+                    }
+                } catch (Throwable t) {
+                    this.encodingFailed = true;
+                    for (Object encodedPacket : encodedPackets) {
+                        this.encoder.release(encodedPacket);
+                    }
+                    return null;
+                }
+
+                this.encoded = encodedPackets;
+                return encodedPackets;
+            }
+
+            private void targetDone() {
+                if (this.remainingTargets.decrementAndGet() != 0) {
+                    return;
+                }
+
+                synchronized (this) {
+                    if (this.encoded == null) {
+                        return;
+                    }
+
+                    try {
+                        for (Object encodedPacket : this.encoded) {
+                            this.encoder.release(encodedPacket);
+                        }
+                    } catch (Throwable t) {
+                        throw new RuntimeException("Unable to release encoded scoreboard packets", t);
+                    } finally {
+                        this.encoded = null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Connection of a player, kept as long as the player handle doesn't change.
+     */
+    private static final class PlayerConnection {
+
+        private final Object entityPlayer;
+        private final Object playerConnection;
+        private Object channel;
+
+        PlayerConnection(Object entityPlayer, Object playerConnection) {
+            this.entityPlayer = entityPlayer;
+            this.playerConnection = playerConnection;
         }
 
-        sendPacket(packet);
+        /**
+         * Returns the Netty channel of this connection, or null if the player has no network connection.
+         */
+        Object channel() throws Throwable {
+            if (this.channel == null) {
+                this.channel = PLAYER_CONNECTION_CHANNEL.invoke(this.playerConnection);
+            }
+
+            return this.channel;
+        }
     }
 
-    private void sendModernScorePacket(int score, ScoreboardAction action) throws Throwable {
-        String objName = COLOR_CODES[score];
-        Object enumAction = action == ScoreboardAction.REMOVE
-                ? ENUM_SB_ACTION_REMOVE : ENUM_SB_ACTION_CHANGE;
+    /**
+     * Running animation of the title or of a line. Only the manager ticking the board advances it.
+     */
+    private static final class AnimationSlot<T> {
 
-        if (PACKET_SB_RESET_SCORE == null) { // Pre 1.20.3
-            sendPacket(PACKET_SB_SET_SCORE.invoke(enumAction, this.id, objName, score));
-            return;
+        private final Animation<T> animation;
+        private volatile int frame;
+        private int remainingTicks;
+
+        AnimationSlot(Animation<T> animation) {
+            this.animation = animation;
+            this.remainingTicks = animation.getFrameTicks(0);
         }
 
-        if (action == ScoreboardAction.REMOVE) {
-            sendPacket(PACKET_SB_RESET_SCORE.invoke(objName, this.id));
-            return;
+        T frame() {
+            return this.animation.frame(this.frame);
         }
 
-        T scoreFormat = getLineByScore(this.scores, score);
-        Object format = scoreFormat != null
-                ? FIXED_NUMBER_FORMAT.invoke(toMinecraftComponent(scoreFormat))
-                : BLANK_NUMBER_FORMAT;
-        Object scorePacket = SCORE_OPTIONAL_COMPONENTS
-                ? PACKET_SB_SET_SCORE.invoke(objName, this.id, score, Optional.empty(), Optional.of(format))
-                : PACKET_SB_SET_SCORE.invoke(objName, this.id, score, null, format);
+        /**
+         * Advances this animation by one tick.
+         *
+         * @return true if the displayed frame changed
+         */
+        boolean tick() {
+            if (--this.remainingTicks > 0) {
+                return false;
+            }
 
-        sendPacket(scorePacket);
+            int current = this.frame;
+            int next = current + 1 < this.animation.size() ? current + 1 : 0;
+            this.remainingTicks = this.animation.getFrameTicks(next);
+            this.frame = next;
+            return next != current;
+        }
     }
 
-    protected void sendTeamPacket(int score, TeamMode mode) throws Throwable {
-        sendTeamPacket(score, mode, null, null);
+    /**
+     * Boards created together, sharing their objective name and the packets creating their scoreboard.
+     */
+    private static final class BulkCreation<T> {
+
+        private final String objectiveName = newId();
+        private final List<Object> packets = new ArrayList<>();
+        // Number of captured packets of each type, recorded in the metrics of each board sending them
+        private final int[] packetCounts = new int[FastBoardMetrics.PacketType.values().length];
+        // State of the first board once updated, the packets are complete once it is set
+        private volatile BoardState<T> state;
     }
 
-    protected void sendTeamPacket(int score, TeamMode mode, T prefix, T suffix)
-            throws Throwable {
-        if (mode == TeamMode.ADD_PLAYERS || mode == TeamMode.REMOVE_PLAYERS) {
-            throw new UnsupportedOperationException();
+    /**
+     * Immutable state of a board, replaced as a whole on each update.
+     */
+    private static final class BoardState<T> {
+
+        private static final Object[] EMPTY = new Object[0];
+        // Score values between the lines when they are renumbered, leaving room to insert lines between them
+        private static final int SCORE_GAP = 1 << 16;
+        private static final int MAX_SCORE = 1 << 30;
+
+        private final T title;
+        // Never modified once the state is created
+        private final Object[] lines;
+        private final Object[] scores;
+        // Slot (team and score entry) and score value of each line, or null when both are the position of the line
+        private final int[] slots;
+        private final int[] values;
+        // Line in each slot, or -1 for the unused slots
+        private final int[] slotLines;
+
+        BoardState(T title, Object[] lines, Object[] scores) {
+            this(title, lines, scores, null, null, null);
         }
 
-        Object packet;
-        if (mode == TeamMode.REMOVE) {
-            if (VersionType.V1_17.isHigherOrEqual()) {
-                packet = PACKET_SB_TEAM.invoke(
-                        this.id + ':' + score, // Team name
-                        mode.ordinal(), // Update mode
-                        Optional.empty(), // Serializable team, unused
-                        Collections.emptyList() // Players
-                );
-            } else {
-                packet = PACKET_SB_TEAM.invoke();
-                setField(packet, String.class, this.id + ':' + score); // Team name
-                setField(packet, int.class, mode.ordinal(), VERSION_TYPE == VersionType.V1_8 ? 1 : 0); // Update mode
+        BoardState(T title) {
+            this(title, EMPTY, EMPTY);
+        }
+
+        private BoardState(T title, Object[] lines, Object[] scores, int[] slots, int[] values, int[] slotLines) {
+            this.title = title;
+            this.lines = lines;
+            this.scores = scores;
+            this.slots = slots;
+            this.values = values;
+            this.slotLines = slotLines;
+        }
+
+        int size() {
+            return this.lines.length;
+        }
+
+        int slot(int line) {
+            return this.slots != null ? this.slots[line] : this.lines.length - line - 1;
+        }
+
+        int value(int line) {
+            return this.values != null ? this.values[line] : this.lines.length - line - 1;
+        }
+
+        /**
+         * Returns the line in the given slot, or -1 if the slot is not used.
+         */
+        int lineOfSlot(int slot) {
+            if (this.slotLines != null) {
+                return this.slotLines[slot];
             }
-            sendPacket(packet);
-            return;
+            return slot < this.lines.length ? this.lines.length - slot - 1 : -1;
         }
 
-        if (VersionType.V1_17.isHigherOrEqual()) {
-            Object team = PLAYER_TEAM.invoke(null, this.id + ':' + score);
-            setComponentField(team, null, 1); // Display name
-            setComponentField(team, prefix, 2); // Prefix
-            setComponentField(team, suffix, 3); // Suffix
-            Object serializableTeam = PACKET_SB_SERIALIZABLE_TEAM.invoke(team);
-            packet = PACKET_SB_TEAM.invoke(
-                    this.id + ':' + score, // Team name
-                    mode.ordinal(), // Update mode
-                    Optional.of(serializableTeam), // Serializable team
-                    mode == TeamMode.CREATE ? Collections.singletonList(COLOR_CODES[score]) : Collections.emptyList() // Players
-            );
-        } else {
-            packet = PACKET_SB_TEAM.invoke();
-            setField(packet, String.class, this.id + ':' + score); // Team name
-            setField(packet, int.class, mode.ordinal(), VERSION_TYPE == VersionType.V1_8 ? 1 : 0); // Update mode
-            setComponentField(packet, prefix, 2); // Prefix
-            setComponentField(packet, suffix, 3); // Suffix
-            setField(packet, String.class, "always", 4); // Visibility for 1.8+
-            setField(packet, String.class, "always", 5); // Collisions for 1.9+
-            if (mode == TeamMode.CREATE) {
-                setField(packet, Collection.class, Collections.singletonList(COLOR_CODES[score])); // Players in the team
+        int usedSlots() {
+            if (this.slots == null) {
+                return (1 << this.lines.length) - 1;
+            }
+
+            int used = 0;
+            for (int slot : this.slots) {
+                used |= 1 << slot;
             }
+            return used;
         }
 
-        sendPacket(packet);
-    }
+        /**
+         * Returns this state with the slots and score values of its lines assigned from the previous state.
+         * The lines kept at the start and at the end keep their slot and value, so inserting or removing
+         * lines only adds or removes their slots, instead of moving the content of each following line.
+         * The lines in between reuse the slots of the lines they replace, in order.
+         */
+        BoardState<T> withLayout(BoardState<T> previous) {
+            int oldSize = previous.size();
+            int newSize = size();
+
+            if (this.lines == previous.lines) {
+                return new BoardState<>(this.title, this.lines, this.scores, previous.slots, previous.values, previous.slotLines);
+            }
 
-    private void sendPacket(Object packet) throws Throwable {
-        if (this.deleted) {
-            throw new IllegalStateException("This FastBoard is deleted");
+            int common = Math.min(oldSize, newSize);
+            int start = 0;
+            while (start < common && Objects.equals(previous.lines[start], this.lines[start])) {
+                start++;
+            }
+            int end = 0;
+            while (end < common - start && Objects.equals(previous.lines[oldSize - end - 1], this.lines[newSize - end - 1])) {
+                end++;
+            }
+
+            int[] newSlots = new int[newSize];
+            int[] newValues = new int[newSize];
+            int newMiddle = newSize - start - end;
+            int reused = Math.min(newMiddle, oldSize - start - end);
+
+            for (int i = 0; i < start + reused; i++) {
+                newSlots[i] = previous.slot(i);
+                newValues[i] = previous.value(i);
+            }
+            for (int i = 0; i < end; i++) {
+                newSlots[newSize - i - 1] = previous.slot(oldSize - i - 1);
+                newValues[newSize - i - 1] = previous.value(oldSize - i - 1);
+            }
+
+            int added = newMiddle - reused;
+            if (added > 0) {
+                int free = ~0;
+                for (int i = 0; i < newSize; i++) {
+                    if (i < start + reused || i >= newSize - end) {
+                        free &= ~(1 << newSlots[i]);
+                    }
+                }
+
+                int first = start + reused;
+                long upper = first > 0 ? newValues[first - 1] : Long.MAX_VALUE;
+                long lower = end > 0 ? newValues[newSize - end] : Long.MIN_VALUE;
+                long step = upper == Long.MAX_VALUE || lower == Long.MIN_VALUE ? SCORE_GAP : (upper - lower) / (added + 1);
+                long top = upper != Long.MAX_VALUE ? upper : lower != Long.MIN_VALUE ? lower + step * (added + 1) : step * added;
+                boolean renumber = step == 0 || top - step * added < -MAX_SCORE || top > MAX_SCORE;
+
+                for (int i = 0; i < added; i++) {
+                    newSlots[first + i] = Integer.numberOfTrailingZeros(free);
+                    newValues[first + i] = (int) (top - step * (i + 1));
+                    free &= free - 1;
+                }
+
+                if (renumber) {
+                    for (int i = 0; i < newSize; i++) {
+                        newValues[i] = (newSize - i - 1) * SCORE_GAP;
+                    }
+                }
+            }
+
+            int[] newSlotLines = new int[COLOR_CODES.length];
+            Arrays.fill(newSlotLines, -1);
+            for (int i = 0; i < newSize; i++) {
+                newSlotLines[newSlots[i]] = i;
+            }
+            return new BoardState<>(this.title, this.lines, this.scores, newSlots, newValues, newSlotLines);
+        }
+
+        @SuppressWarnings("unchecked")
+        T line(int line) {
+            return (T) this.lines[line];
+        }
+
+        @SuppressWarnings("unchecked")
+        T score(int line) {
+            return (T) this.scores[line];
+        }
+
+        T lineBySlot(int slot) {
+            int line = lineOfSlot(slot);
+            return line >= 0 ? line(line) : null;
+        }
+
+        T scoreBySlot(int slot) {
+            int line = lineOfSlot(slot);
+            return line >= 0 ? score(line) : null;
         }
 
-        if (this.player.isOnline()) {
-            Object entityPlayer = PLAYER_GET_HANDLE.invoke(this.player);
-            Object playerConnection = PLAYER_CONNECTION.invoke(entityPlayer);
-            SEND_PACKET.invoke(playerConnection, packet);
+        @SuppressWarnings("unchecked")
+        List<T> lines() {
+            return (List<T>) Arrays.asList(this.lines);
+        }
+
+        BoardState<T> withTitle(T title) {
+            return new BoardState<>(title, this.lines, this.scores, this.slots, this.values, this.slotLines);
+        }
+
+        /**
+         * Returns whether this state has the given lines and scores, without allocating for lists.
+         * Null scores match a state without any custom score.
+         */
+        boolean hasElements(Collection<?> lines, Collection<?> scores) {
+            if (!hasElements(this.lines, lines)) {
+                return false;
+            }
+
+            if (scores != null) {
+                return hasElements(this.scores, scores);
+            }
+
+            for (Object score : this.scores) {
+                if (score != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the number of lines that differ between the array and the collection,
+         * including the lines added or removed.
+         */
+        static int countChanges(Object[] array, Collection<?> elements) {
+            int changes = Math.abs(array.length - elements.size());
+            int i = 0;
+
+            for (Object element : elements) {
+                if (i < array.length && !Objects.equals(array[i], element)) {
+                    changes++;
+                }
+                i++;
+            }
+            return changes;
+        }
+
+        static boolean hasElements(Object[] array, Collection<?> elements) {
+            if (array.length != elements.size()) {
+                return false;
+            }
+
+            if (elements instanceof List && elements instanceof RandomAccess) {
+                List<?> list = (List<?>) elements;
+
+                for (int i = 0; i < array.length; i++) {
+                    if (!Objects.equals(array[i], list.get(i))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            int i = 0;
+            for (Object element : elements) {
+                if (!Objects.equals(array[i++], element)) {
+                    return false;
+                }
+            }
+            return true;
         }
     }
 
-    private void setField(Object object, Class<?> fieldType, Object value)
-            throws ReflectiveOperationException {
-        setField(object, fieldType, value, 0);
+    private static String newId() {
+        return "fb-" + Integer.toHexString(ThreadLocalRandom.current().nextInt());
     }
 
-    private void setField(Object packet, Class<?> fieldType, Object value, int count)
-            throws ReflectiveOperationException {
-        int i = 0;
-        for (Field field : PACKETS.get(packet.getClass())) {
-            if (field.getType() == fieldType && count == i++) {
-                field.set(packet, value);
+    private static <T, B extends FastBoardBase<T>> B createBulkBoard(BulkCreation<T> bulk, Player player, Function<? super Player, B> factory) {
+        BULK_CREATION.set(bulk);
+        try {
+            B board = factory.apply(player);
+
+            if (BULK_CREATION.get() != null || board == null || !((FastBoardBase<T>) board).objectiveName.equals(bulk.objectiveName)) {
+                throw new IllegalStateException("The factory must create a new FastBoard");
+            }
+
+            if (board.getPlayer() != player) {
+                throw new IllegalStateException("The factory must create the FastBoard of the given player");
             }
+            return board;
+        } finally {
+            BULK_CREATION.remove();
         }
     }
 
-    private void setComponentField(Object packet, T value, int count) throws Throwable {
-        if (!VersionType.V1_13.isHigherOrEqual()) {
-            String line = value != null ? serializeLine(value) : "";
-            setField(packet, String.class, line, count);
-            return;
+    /**
+     * Stops capturing the packets of the first board of a bulk creation.
+     *
+     * @return the state of the board once the captured packets are sent
+     */
+    private BoardState<T> endPacketCapture() {
+        this.sendLock.lock();
+        try {
+            this.packetCapture = null;
+            return this.sentState;
+        } finally {
+            this.sendLock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the first board of a failed bulk creation. Its packets were only captured and its player
+     * never received them, so nothing is sent to remove them.
+     */
+    private void discardPacketCapture() {
+        this.sendLock.lock();
+        try {
+            this.packetCapture = null;
+
+            FastBoardManager manager = this.manager.get();
+            if (manager != null) {
+                manager.unregister(this, false);
+            }
+
+            this.deleted = true;
+            this.packetBatch.clear();
+            stopAnimations();
+
+            for (Player viewer : this.viewers) {
+                this.packetSink.removeViewer(viewer);
+            }
+        } finally {
+            this.sendLock.unlock();
         }
+    }
 
-        int i = 0;
-        for (Field field : PACKETS.get(packet.getClass())) {
-            if ((field.getType() == String.class || field.getType() == CHAT_COMPONENT_CLASS) && count == i++) {
-                field.set(packet, toMinecraftComponent(value));
+    private void sendBulkPackets(BulkCreation<T> bulk) {
+        this.sendLock.lock();
+        try {
+            FastBoardMetrics.PacketType[] types = FastBoardMetrics.PacketType.values();
+            for (int i = 0; i < types.length; i++) {
+                this.metrics.recordPackets(types[i], bulk.packetCounts[i] * packetTargets().size());
             }
+
+            sendPacketsNow(bulk.packets);
+        } catch (Throwable t) {
+            throw new RuntimeException("Unable to create scoreboard", t);
+        } finally {
+            this.sendLock.unlock();
+        }
+    }
+
+    private static Executor defaultAsyncExecutor() {
+        try {
+            // Java 21+, virtual threads are cheap enough to run each update in its own thread
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return ForkJoinPool.commonPool();
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> AnimationSlot<T>[] emptyAnimationSlots() {
+        return (AnimationSlot<T>[]) new AnimationSlot<?>[0];
+    }
+
+    private static <E> E[] insertElement(E[] array, int index, E element) {
+        E[] result = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        result[index] = element;
+        return result;
+    }
+
+    private static <E> E[] removeElement(E[] array, int index) {
+        E[] result = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+
     public enum ObjectiveMode {
         CREATE, REMOVE, UPDATE
     }
@@ -0,0 +1,204 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Java Flight Recorder events of the scoreboards, disabled by default.
+ * <p>
+ * This class is only loaded when JFR is available, so the server can still run on Java versions without it.
+ * Each event is only created when its type is enabled in the recording, for example with
+ * {@code -XX:StartFlightRecording:+fr.mrmicky.fastboard.LinesUpdate#enabled=true}.
+ *
+ * @author MrMicky
+ */
+final class FastBoardEvents {
+
+    private static final EventType BOARD_CREATE = EventType.getEventType(BoardCreateEvent.class);
+    private static final EventType BOARD_DELETE = EventType.getEventType(BoardDeleteEvent.class);
+    private static final EventType LINES_UPDATE = EventType.getEventType(LinesUpdateEvent.class);
+    private static final EventType TITLE_UPDATE = EventType.getEventType(TitleUpdateEvent.class);
+    private static final EventType PACKET_SEND = EventType.getEventType(PacketSendEvent.class);
+
+    private FastBoardEvents() {
+        throw new UnsupportedOperationException();
+    }
+
+    static Object beginBoardCreate() {
+        return BOARD_CREATE.isEnabled() ? begin(new BoardCreateEvent()) : null;
+    }
+
+    static void commitBoardCreate(Object event, String boardId, String player) {
+        BoardCreateEvent createEvent = (BoardCreateEvent) event;
+        createEvent.boardId = boardId;
+        createEvent.player = player;
+        createEvent.commit();
+    }
+
+    static Object beginBoardDelete() {
+        return BOARD_DELETE.isEnabled() ? begin(new BoardDeleteEvent()) : null;
+    }
+
+    static void commitBoardDelete(Object event, String boardId, int lines) {
+        BoardDeleteEvent deleteEvent = (BoardDeleteEvent) event;
+        deleteEvent.boardId = boardId;
+        deleteEvent.lines = lines;
+        deleteEvent.commit();
+    }
+
+    static Object beginLinesUpdate() {
+        return LINES_UPDATE.isEnabled() ? begin(new LinesUpdateEvent()) : null;
+    }
+
+    static void commitLinesUpdate(Object event, String boardId, int lines, int changedLines) {
+        LinesUpdateEvent updateEvent = (LinesUpdateEvent) event;
+        updateEvent.boardId = boardId;
+        updateEvent.lines = lines;
+        updateEvent.changedLines = changedLines;
+        updateEvent.commit();
+    }
+
+    static Object beginTitleUpdate() {
+        return TITLE_UPDATE.isEnabled() ? begin(new TitleUpdateEvent()) : null;
+    }
+
+    static void commitTitleUpdate(Object event, String boardId, String title) {
+        TitleUpdateEvent updateEvent = (TitleUpdateEvent) event;
+        updateEvent.boardId = boardId;
+        updateEvent.title = title;
+        updateEvent.commit();
+    }
+
+    static Object beginPacketSend() {
+        return PACKET_SEND.isEnabled() ? begin(new PacketSendEvent()) : null;
+    }
+
+    static void commitPacketSend(Object event, String boardId, List<Object> packets, int viewers) {
+        PacketSendEvent sendEvent = (PacketSendEvent) event;
+        sendEvent.end();
+
+        if (!sendEvent.shouldCommit()) {
+            return;
+        }
+
+        sendEvent.boardId = boardId;
+        sendEvent.packets = packets.size();
+        sendEvent.packetClasses = packets.stream()
+                .map(packet -> packet.getClass().getSimpleName())
+                .collect(Collectors.joining(", "));
+        sendEvent.viewers = viewers;
+        sendEvent.commit();
+    }
+
+    private static Event begin(Event event) {
+        event.begin();
+        return event;
+    }
+
+    @Name("fr.mrmicky.fastboard.BoardCreate")
+    @Label("Scoreboard Creation")
+    @Category("FastBoard")
+    @Enabled(false)
+    static final class BoardCreateEvent extends Event {
+
+        @Label("Board Id")
+        String boardId;
+
+        @Label("Player")
+        String player;
+    }
+
+    @Name("fr.mrmicky.fastboard.BoardDelete")
+    @Label("Scoreboard Deletion")
+    @Category("FastBoard")
+    @Enabled(false)
+    static final class BoardDeleteEvent extends Event {
+
+        @Label("Board Id")
+        String boardId;
+
+        @Label("Lines")
+        int lines;
+    }
+
+    @Name("fr.mrmicky.fastboard.LinesUpdate")
+    @Label("Scoreboard Lines Update")
+    @Description("Update of all the lines of a scoreboard, including sending the changes unless the board is managed")
+    @Category("FastBoard")
+    @Enabled(false)
+    static final class LinesUpdateEvent extends Event {
+
+        @Label("Board Id")
+        String boardId;
+
+        @Label("Lines")
+        int lines;
+
+        @Label("Changed Lines")
+        int changedLines;
+    }
+
+    @Name("fr.mrmicky.fastboard.TitleUpdate")
+    @Label("Scoreboard Title Update")
+    @Category("FastBoard")
+    @Enabled(false)
+    static final class TitleUpdateEvent extends Event {
+
+        @Label("Board Id")
+        String boardId;
+
+        @Label("Title")
+        String title;
+    }
+
+    @Name("fr.mrmicky.fastboard.PacketSend")
+    @Label("Scoreboard Packets Send")
+    @Description("Packets of a scoreboard update sent to its viewers")
+    @Category("FastBoard")
+    @Enabled(false)
+    static final class PacketSendEvent extends Event {
+
+        @Label("Board Id")
+        String boardId;
+
+        @Label("Packets")
+        int packets;
+
+        @Label("Packet Classes")
+        String packetClasses;
+
+        @Label("Viewers")
+        int viewers;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+
+/**
+ * Manager coalescing the updates of its boards, to send them at most once per tick.
+ * <p>
+ * The updates made on a registered board are only recorded, and the board is sent once on the next tick,
+ * with only the difference between its last sent state and its current state. This way, when a board
+ * is updated multiple times during the same tick, only the last value of each line and score is sent.
+ * <p>
+ * The manager also advances the {@link Animation animations} of its boards every tick, before sending them.
+ *
+ * @author MrMicky
+ */
+public class FastBoardManager {
+
+    private final Plugin plugin;
+    private final Set<FastBoardBase<?>> boards = ConcurrentHashMap.newKeySet();
+    private final Queue<FastBoardBase<?>> dirtyBoards = new ConcurrentLinkedQueue<>();
+    private final Set<FastBoardBase<?>> dirtyBoardsSet = ConcurrentHashMap.newKeySet();
+    private final Set<FastBoardBase<?>> animatedBoards = ConcurrentHashMap.newKeySet();
+    // Started when the first board is registered
+    private final AtomicReference<BukkitTask> task = new AtomicReference<>();
+    private volatile boolean closed;
+
+    /**
+     * Creates a new manager, advancing the animations and sending the updates of its boards every tick
+     * once a board is registered.
+     *
+     * @param plugin the plugin used to schedule the updates
+     */
+    public FastBoardManager(Plugin plugin) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+    }
+
+    /**
+     * Registers a board to this manager. Its future updates will be sent on the next tick.
+     *
+     * @param board the board to register
+     * @param <B>   the type of the board
+     * @return the registered board
+     * @throws IllegalArgumentException if the board is already registered to another manager
+     * @throws IllegalStateException    if this manager is closed
+     */
+    public <B extends FastBoardBase<?>> B register(B board) {
+        Objects.requireNonNull(board, "board");
+
+        if (this.closed) {
+            throw new IllegalStateException("This manager is closed");
+        }
+
+        if (!board.compareAndSetManager(null, this) && board.getManager() != this) {
+            throw new IllegalArgumentException("This FastBoard is already registered to another manager");
+        }
+
+        this.boards.add(board);
+        startTask();
+
+        if (board.hasAnimations()) {
+            this.animatedBoards.add(board);
+        }
+        return board;
+    }
+
+    /**
+     * Unregisters a board from this manager. Its pending changes are sent immediately,
+     * and its future updates will also be sent immediately.
+     *
+     * @param board the board to unregister
+     */
+    public void unregister(FastBoardBase<?> board) {
+        unregister(board, true);
+    }
+
+    void unregister(FastBoardBase<?> board, boolean sendChanges) {
+        if (!this.boards.remove(board)) {
+            return;
+        }
+
+        board.compareAndSetManager(this, null);
+        this.dirtyBoardsSet.remove(board);
+        this.animatedBoards.remove(board);
+
+        if (sendChanges && !board.isDeleted()) {
+            try {
+                board.sendPendingChanges();
+            } catch (Throwable t) {
+                throw new RuntimeException("Unable to update scoreboard", t);
+            }
+        }
+    }
+
+    /**
+     * Returns the boards registered to this manager.
+     *
+     * @return the registered boards
+     */
+    public Collection<FastBoardBase<?>> getBoards() {
+        return Collections.unmodifiableCollection(new ArrayList<>(this.boards));
+    }
+
+    /**
+     * Sends the pending changes of all the updated boards. This is automatically done every tick.
+     */
+    public void flush() {
+        List<FastBoardBase<?>> pausedBoards = null;
+        FastBoardBase<?> board;
+
+        while ((board = this.dirtyBoards.poll()) != null) {
+            // Remove before sending, so updates made while sending are sent on the next flush
+            if (!this.dirtyBoardsSet.remove(board) || board.isDeleted()) {
+                continue;
+            }
+
+            try {
+                board.sendPendingChanges();
+            } catch (Throwable t) {
+                this.plugin.getLogger().log(Level.WARNING, "Unable to update scoreboard " + board.getId(), t);
+            }
+
+            if (board.hasPausedViewers()) {
+                if (pausedBoards == null) {
+                    pausedBoards = new ArrayList<>();
+                }
+                pausedBoards.add(board);
+            }
+        }
+
+        // Boards with paused viewers are sent again on the next tick, to catch up when the viewers are ready
+        if (pausedBoards != null) {
+            for (FastBoardBase<?> pausedBoard : pausedBoards) {
+                markDirty(pausedBoard);
+            }
+        }
+    }
+
+    /**
+     * Stops this manager, after sending the pending changes and unregistering all its boards.
+     */
+    public void close() {
+        this.closed = true;
+
+        BukkitTask task = this.task.getAndSet(null);
+        if (task != null) {
+            task.cancel();
+        }
+
+        for (FastBoardBase<?> board : this.boards) {
+            try {
+                unregister(board);
+            } catch (RuntimeException e) {
+                this.plugin.getLogger().log(Level.WARNING, "Unable to update scoreboard " + board.getId(), e);
+            }
+        }
+
+        this.dirtyBoards.clear();
+    }
+
+    private void startTask() {
+        if (this.task.get() != null) {
+            return;
+        }
+
+        BukkitTask newTask = this.plugin.getServer().getScheduler().runTaskTimer(this.plugin, this::tick, 1, 1);
+
+        // Another board may have started the task concurrently, or the manager may have been closed meanwhile
+        if (!this.task.compareAndSet(null, newTask) || this.closed) {
+            newTask.cancel();
+        }
+    }
+
+    private void tick() {
+        for (FastBoardBase<?> board : this.animatedBoards) {
+            try {
+                if (!board.tickAnimations()) {
+                    removeAnimatedBoard(board);
+                }
+            } catch (RuntimeException e) {
+                this.plugin.getLogger().log(Level.WARNING, "Unable to animate scoreboard " + board.getId(), e);
+            }
+        }
+
+        flush();
+    }
+
+    void addAnimatedBoard(FastBoardBase<?> board) {
+        if (this.boards.contains(board)) {
+            this.animatedBoards.add(board);
+        }
+    }
+
+    void removeAnimatedBoard(FastBoardBase<?> board) {
+        this.animatedBoards.remove(board);
+
+        // An animation may have been started since it was checked
+        if (board.hasAnimations() && this.boards.contains(board)) {
+            this.animatedBoards.add(board);
+        }
+    }
+
+    void markDirty(FastBoardBase<?> board) {
+        if (this.dirtyBoardsSet.add(board)) {
+            this.dirtyBoards.add(board);
+        }
+    }
+}
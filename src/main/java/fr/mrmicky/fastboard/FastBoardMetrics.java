@@ -0,0 +1,365 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms of the scoreboards. Each board has its own metrics,
+ * and everything recorded by a board is also added to the {@link #global()} metrics.
+ * <p>
+ * Counters are striped, so recording is cheap even when many threads update boards.
+ * Values are read with {@link #snapshot()}, for example to export them to a monitoring system.
+ *
+ * @author MrMicky
+ */
+public final class FastBoardMetrics {
+
+    private static final FastBoardMetrics GLOBAL = new FastBoardMetrics(null);
+
+    private final FastBoardMetrics parent;
+    private final LongAdder[] packets = new LongAdder[PacketType.values().length];
+    private final LongAdder suppressedUpdates = new LongAdder();
+    private final LongAdder componentConversions = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+    private final LatencyHistogram updateLinesLatency = new LatencyHistogram();
+    private final LatencyHistogram sendLatency = new LatencyHistogram();
+
+    FastBoardMetrics() {
+        this(GLOBAL);
+    }
+
+    private FastBoardMetrics(FastBoardMetrics parent) {
+        this.parent = parent;
+
+        for (int i = 0; i < this.packets.length; i++) {
+            this.packets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Returns the metrics of all the boards.
+     *
+     * @return the global metrics
+     */
+    public static FastBoardMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns the current values of these metrics.
+     *
+     * @return a snapshot of the metrics
+     */
+    public Snapshot snapshot() {
+        long[] packetCounts = new long[this.packets.length];
+        for (int i = 0; i < packetCounts.length; i++) {
+            packetCounts[i] = this.packets[i].sum();
+        }
+
+        return new Snapshot(packetCounts, this.suppressedUpdates.sum(), this.componentConversions.sum(),
+                this.sendFailures.sum(), this.updateLinesLatency.snapshot(), this.sendLatency.snapshot());
+    }
+
+    void recordPackets(PacketType type, int count) {
+        this.packets[type.ordinal()].add(count);
+
+        if (this.parent != null) {
+            this.parent.recordPackets(type, count);
+        }
+    }
+
+    void recordSuppressedUpdate() {
+        this.suppressedUpdates.increment();
+
+        if (this.parent != null) {
+            this.parent.recordSuppressedUpdate();
+        }
+    }
+
+    void recordComponentConversion() {
+        this.componentConversions.increment();
+
+        if (this.parent != null) {
+            this.parent.recordComponentConversion();
+        }
+    }
+
+    void recordSendFailure() {
+        this.sendFailures.increment();
+
+        if (this.parent != null) {
+            this.parent.recordSendFailure();
+        }
+    }
+
+    void recordUpdateLines(long nanos) {
+        this.updateLinesLatency.record(nanos);
+
+        if (this.parent != null) {
+            this.parent.recordUpdateLines(nanos);
+        }
+    }
+
+    void recordSend(long nanos) {
+        this.sendLatency.record(nanos);
+
+        if (this.parent != null) {
+            this.parent.recordSend(nanos);
+        }
+    }
+
+    public enum PacketType {
+        OBJECTIVE, TEAM, SCORE, RESET_SCORE
+    }
+
+    /**
+     * Values of the metrics at the time of the snapshot.
+     */
+    public static final class Snapshot {
+
+        private final long[] packets;
+        private final long suppressedUpdates;
+        private final long componentConversions;
+        private final long sendFailures;
+        private final LatencySnapshot updateLinesLatency;
+        private final LatencySnapshot sendLatency;
+
+        Snapshot(long[] packets, long suppressedUpdates, long componentConversions, long sendFailures,
+                 LatencySnapshot updateLinesLatency, LatencySnapshot sendLatency) {
+            this.packets = packets;
+            this.suppressedUpdates = suppressedUpdates;
+            this.componentConversions = componentConversions;
+            this.sendFailures = sendFailures;
+            this.updateLinesLatency = updateLinesLatency;
+            this.sendLatency = sendLatency;
+        }
+
+        /**
+         * Returns the number of packets of a type sent to the viewers. A packet sent to multiple viewers
+         * is counted once per viewer.
+         *
+         * @param type the type of packets
+         * @return the number of packets sent
+         */
+        public long getPacketsSent(PacketType type) {
+            return this.packets[type.ordinal()];
+        }
+
+        /**
+         * Returns the number of packets of all types sent to the viewers.
+         *
+         * @return the number of packets sent
+         */
+        public long getPacketsSent() {
+            long total = 0;
+            for (long count : this.packets) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * Returns the number of updates ignored because they didn't change the board.
+         *
+         * @return the number of suppressed updates
+         */
+        public long getSuppressedUpdates() {
+            return this.suppressedUpdates;
+        }
+
+        /**
+         * Returns the number of lines converted to Minecraft components, including the conversions
+         * returned by a {@link ComponentCache}.
+         *
+         * @return the number of component conversions
+         */
+        public long getComponentConversions() {
+            return this.componentConversions;
+        }
+
+        /**
+         * Returns the number of packet groups that could not be sent.
+         *
+         * @return the number of send failures
+         */
+        public long getSendFailures() {
+            return this.sendFailures;
+        }
+
+        /**
+         * Returns the latency of the calls to update all the lines that changed the board, including
+         * sending the changes unless the board is managed by a {@link FastBoardManager}.
+         *
+         * @return the latency of the lines updates
+         */
+        public LatencySnapshot getUpdateLinesLatency() {
+            return this.updateLinesLatency;
+        }
+
+        /**
+         * Returns the latency of sending the packets of an update to the viewers.
+         *
+         * @return the latency of the packets sending
+         */
+        public LatencySnapshot getSendLatency() {
+            return this.sendLatency;
+        }
+    }
+
+    /**
+     * Latency histogram with power of two buckets: bucket {@code i} counts the durations
+     * lower than {@code 2^i} nanoseconds, and greater or equal to the upper bound of the previous bucket.
+     */
+    public static final class LatencySnapshot {
+
+        private final long[] buckets;
+        private final long count;
+        private final long totalNanos;
+
+        LatencySnapshot(long[] buckets, long totalNanos) {
+            long count = 0;
+            for (long bucket : buckets) {
+                count += bucket;
+            }
+
+            this.buckets = buckets;
+            this.count = count;
+            this.totalNanos = totalNanos;
+        }
+
+        /**
+         * Returns the number of recorded durations.
+         *
+         * @return the number of durations
+         */
+        public long getCount() {
+            return this.count;
+        }
+
+        /**
+         * Returns the sum of the recorded durations.
+         *
+         * @return the total duration, in nanoseconds
+         */
+        public long getTotalNanos() {
+            return this.totalNanos;
+        }
+
+        /**
+         * Returns the mean of the recorded durations.
+         *
+         * @return the mean duration in nanoseconds, or 0 if nothing was recorded
+         */
+        public double getMeanNanos() {
+            return this.count == 0 ? 0 : (double) this.totalNanos / this.count;
+        }
+
+        /**
+         * Returns an upper bound of a percentile of the recorded durations,
+         * as precise as the bucket containing it.
+         *
+         * @param percentile the percentile, between 0 and 100
+         * @return the upper bound of the percentile in nanoseconds, or 0 if nothing was recorded
+         */
+        public long getPercentileNanos(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100");
+            }
+
+            long rank = (long) Math.ceil(this.count * percentile / 100);
+            long seen = 0;
+
+            for (int i = 0; i < this.buckets.length; i++) {
+                seen += this.buckets[i];
+
+                if (seen >= rank && seen > 0) {
+                    return getBucketUpperBound(i);
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Returns the number of durations in each bucket.
+         *
+         * @return a copy of the bucket counts
+         */
+        public long[] getBuckets() {
+            return this.buckets.clone();
+        }
+
+        /**
+         * Returns the exclusive upper bound of a bucket. The last bucket also counts all the longer durations.
+         *
+         * @param bucket the bucket index
+         * @return the upper bound in nanoseconds
+         */
+        public long getBucketUpperBound(int bucket) {
+            return bucket >= this.buckets.length - 1 ? Long.MAX_VALUE : 1L << bucket;
+        }
+    }
+
+    /**
+     * Histogram allocating the counter of a bucket only when a duration is first recorded in it,
+     * as the durations recorded by a board usually fall in a few buckets.
+     */
+    private static final class LatencyHistogram {
+
+        private static final int BUCKETS = 40; // Up to about 18 minutes
+
+        private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKETS);
+        private final LongAdder totalNanos = new LongAdder();
+
+        void record(long nanos) {
+            long value = Math.max(nanos, 0);
+            int bucket = Math.min(64 - Long.numberOfLeadingZeros(value), BUCKETS - 1);
+
+            bucket(bucket).increment();
+            this.totalNanos.add(value);
+        }
+
+        LatencySnapshot snapshot() {
+            long[] counts = new long[BUCKETS];
+            for (int i = 0; i < counts.length; i++) {
+                LongAdder bucket = this.buckets.get(i);
+                counts[i] = bucket != null ? bucket.sum() : 0;
+            }
+
+            return new LatencySnapshot(counts, this.totalNanos.sum());
+        }
+
+        private LongAdder bucket(int index) {
+            LongAdder bucket = this.buckets.get(index);
+
+            if (bucket == null) {
+                LongAdder newBucket = new LongAdder();
+                bucket = this.buckets.compareAndSet(index, null, newBucket) ? newBucket : this.buckets.get(index);
+            }
+
+            return bucket;
+        }
+    }
+}
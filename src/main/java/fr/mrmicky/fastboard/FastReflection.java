@@ -24,10 +24,14 @@
 package fr.mrmicky.fastboard;
 
 import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -53,6 +57,22 @@ public final class FastReflection {
         return NMS_REPACKAGED;
     }
 
+    static boolean isMojangMapped() {
+        return MOJANG_MAPPINGS;
+    }
+
+    /**
+     * Persists the names of the NMS classes and members found by FastBoard in the data folder of the plugin,
+     * so the next boot of the same server version looks them up directly instead of scanning the NMS classes.
+     * The cached names are ignored when the server version or jar changes, and resolved again when they don't match.
+     * This method must be called before the first scoreboard is created, for example in {@code onEnable()}.
+     *
+     * @param plugin the plugin storing the cache in its data folder
+     */
+    public static void useMappingCache(Plugin plugin) {
+        MappingCache.use(Objects.requireNonNull(plugin, "plugin"));
+    }
+
     public static String nmsClassName(String post1_17package, String className) {
         if (NMS_REPACKAGED) {
             String classPackage = post1_17package == null ? NM_PACKAGE : NM_PACKAGE + '.' + post1_17package;
@@ -124,6 +144,18 @@ public final class FastReflection {
         throw new ClassNotFoundException("No class in " + parentClass.getCanonicalName() + " matches the predicate.");
     }
 
+    static Optional<Field> optionalField(Class<?> declaringClass, Predicate<Field> fieldPredicate) {
+        for (Class<?> clazz = declaringClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && fieldPredicate.test(field)) {
+                    field.setAccessible(true);
+                    return Optional.of(field);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
     static Optional<MethodHandle> optionalConstructor(Class<?> declaringClass, MethodHandles.Lookup lookup, MethodType type) throws IllegalAccessException {
         try {
             return Optional.of(lookup.findConstructor(declaringClass, type));
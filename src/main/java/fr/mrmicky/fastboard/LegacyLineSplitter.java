@@ -0,0 +1,230 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import org.bukkit.ChatColor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Splits legacy lines into a team prefix and suffix, keeping the colors of the prefix in the suffix.
+ * <p>
+ * The line is scanned once to find the split point and the last colors of the prefix, like
+ * {@link ChatColor#getLastColors(String)}, and the suffix is built directly without intermediate strings.
+ * The split lines are kept in a small LRU cache, as the same lines are usually sent to many players.
+ *
+ * @author MrMicky
+ */
+final class LegacyLineSplitter {
+
+    private static final char COLOR_CHAR = ChatColor.COLOR_CHAR;
+    private static final int HEX_COLOR_LENGTH = 14; // &x&r&r&g&g&b&b with section signs
+    // Hex colors are only kept by the Bukkit implementation on 1.16 and higher
+    private static final boolean HEX_COLORS = ChatColor.getLastColors(COLOR_CHAR + "x"
+            + String.join("", Collections.nCopies(6, ChatColor.BLACK.toString()))).length() == HEX_COLOR_LENGTH;
+
+    private final int maxLength;
+    private final SplitCache cache;
+
+    LegacyLineSplitter(int maxLength, int cacheSize) {
+        this.maxLength = maxLength;
+        this.cache = new SplitCache(cacheSize);
+    }
+
+    /**
+     * Returns whether a line fits in the prefix, and is sent without being split.
+     *
+     * @param line the line
+     * @return true if the line doesn't need to be split
+     */
+    boolean fits(String line) {
+        return line.length() <= this.maxLength;
+    }
+
+    /**
+     * Splits a line that doesn't {@link #fits(String) fit} in the prefix.
+     *
+     * @param line the line to split
+     * @return the prefix and the suffix of the line
+     */
+    String[] split(String line) {
+        String[] split;
+        synchronized (this.cache) {
+            split = this.cache.get(line);
+        }
+
+        if (split == null) {
+            split = splitLongLine(line);
+
+            synchronized (this.cache) {
+                this.cache.put(line, split);
+            }
+        }
+        return split;
+    }
+
+    private String[] splitLongLine(String line) {
+        // Prevent splitting color codes
+        int index = line.charAt(this.maxLength - 1) == COLOR_CHAR ? (this.maxLength - 1) : this.maxLength;
+
+        // The colors of the prefix are not added when the suffix starts with a color or a reset
+        boolean addColors = index + 1 >= line.length() || line.charAt(index) != COLOR_CHAR
+                || codeType(line.charAt(index + 1)) <= FORMAT;
+        int colorsStart = addColors ? lastColorsStart(line, index) : index;
+        boolean reset = addColors && colorsStart == index;
+
+        int colorsLength = reset ? 2 : copyCodes(line, colorsStart, index, null, 0);
+        char[] suffix = new char[Math.min(this.maxLength, colorsLength + line.length() - index)];
+        int length;
+
+        if (reset) {
+            suffix[0] = COLOR_CHAR;
+            suffix[1] = 'r';
+            length = 2;
+        } else {
+            length = copyCodes(line, colorsStart, index, suffix, 0);
+        }
+        copy(line, index, line.length(), suffix, length);
+
+        return new String[]{line.substring(0, index), new String(suffix)};
+    }
+
+    /**
+     * Returns the index of the first code of the last colors of the text before the end index, which are
+     * the last color, reset or hex color, followed by the formats after it, like {@link ChatColor#getLastColors(String)}.
+     * Returns the end index when there is no code.
+     */
+    private static int lastColorsStart(String line, int end) {
+        int start = end;
+
+        for (int i = end - 2; i >= 0; i--) {
+            if (line.charAt(i) != COLOR_CHAR) {
+                continue;
+            }
+
+            if (isHexColor(line, i - HEX_COLOR_LENGTH + 2)) {
+                return i - HEX_COLOR_LENGTH + 2;
+            }
+
+            int type = codeType(line.charAt(i + 1));
+            if (type == NONE) {
+                continue;
+            }
+
+            start = i;
+            if (type != FORMAT) {
+                break;
+            }
+        }
+
+        return start;
+    }
+
+    /**
+     * Copies the codes between the start and end indexes, skipping the text between them,
+     * or only counts their length when the target is null.
+     *
+     * @return the offset after the copied codes
+     */
+    private static int copyCodes(String line, int start, int end, char[] target, int offset) {
+        int i = start;
+
+        if (start < end && isHexColor(line, start)) {
+            offset = copy(line, start, start + HEX_COLOR_LENGTH, target, offset);
+            i += HEX_COLOR_LENGTH;
+        }
+
+        for (; i < end - 1; i++) {
+            if (line.charAt(i) == COLOR_CHAR && codeType(line.charAt(i + 1)) != NONE) {
+                offset = copy(line, i, i + 2, target, offset);
+                i++;
+            }
+        }
+
+        return offset;
+    }
+
+    private static boolean isHexColor(String line, int start) {
+        if (!HEX_COLORS || start < 0 || line.charAt(start) != COLOR_CHAR || (line.charAt(start + 1) != 'x' && line.charAt(start + 1) != 'X')) {
+            return false;
+        }
+
+        for (int i = start + 2; i < start + HEX_COLOR_LENGTH; i += 2) {
+            char c = line.charAt(i + 1);
+            boolean hexDigit = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+
+            if (line.charAt(i) != COLOR_CHAR || !hexDigit) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final int NONE = 0;
+    private static final int FORMAT = 1;
+    private static final int COLOR = 2;
+    private static final int RESET = 3;
+
+    private static int codeType(char code) {
+        if ((code >= '0' && code <= '9') || (code >= 'a' && code <= 'f')) {
+            return COLOR;
+        }
+        if (code >= 'k' && code <= 'o') {
+            return FORMAT;
+        }
+        return code == 'r' ? RESET : NONE;
+    }
+
+    private static int copy(String source, int start, int end, char[] target, int offset) {
+        if (target == null) {
+            return offset + end - start;
+        }
+
+        int length = Math.min(end - start, target.length - offset);
+        source.getChars(start, start + length, target, offset);
+        return offset + length;
+    }
+
+    /**
+     * Least recently used split lines, only used while holding its lock.
+     */
+    private static final class SplitCache extends LinkedHashMap<String, String[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maximumSize;
+
+        SplitCache(int maximumSize) {
+            super(16, 0.75F, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String[]> eldest) {
+            return size() > this.maximumSize;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Line compiled once into literal text and placeholders, like {@code "Coins: {coins}"}.
+ * <p>
+ * A placeholder is a variable name between braces, made of letters, digits, '_', '-' or '.'.
+ * The values of the variables are set on each board with {@link FastBoardBase#setVariable(String, Object)},
+ * and only the lines using a changed variable are rendered again. A placeholder without value is
+ * rendered as is. Templates are immutable and can be shared by any number of boards.
+ *
+ * @author MrMicky
+ */
+public final class LineTemplate {
+
+    private final String pattern;
+    // literals[i] is the text before the variable i, and the last literal is the text after the last variable
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalsLength;
+
+    private LineTemplate(String pattern, String[] literals, String[] variables) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.variables = variables;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalsLength = length;
+    }
+
+    /**
+     * Compiles a line template.
+     *
+     * @param pattern the line, with the placeholders between braces
+     * @return the compiled template
+     */
+    public static LineTemplate compile(String pattern) {
+        Objects.requireNonNull(pattern, "pattern");
+
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int literalStart = 0;
+        int index = 0;
+
+        while ((index = pattern.indexOf('{', index)) >= 0) {
+            int end = index + 1;
+            while (end < pattern.length() && isVariableChar(pattern.charAt(end))) {
+                end++;
+            }
+
+            if (end == index + 1 || end >= pattern.length() || pattern.charAt(end) != '}') {
+                index++; // Not a placeholder, kept as literal text
+                continue;
+            }
+
+            literals.add(pattern.substring(literalStart, index));
+            variables.add(pattern.substring(index + 1, end));
+            literalStart = index = end + 1;
+        }
+
+        literals.add(pattern.substring(literalStart));
+
+        return new LineTemplate(pattern, literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+
+    /**
+     * Returns the text this template was compiled from.
+     *
+     * @return the template pattern
+     */
+    public String getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Returns the names of the variables used by this template, in order of appearance.
+     *
+     * @return the variable names
+     */
+    public List<String> getVariables() {
+        return Collections.unmodifiableList(Arrays.asList(this.variables));
+    }
+
+    /**
+     * Renders this template with the given variable values.
+     *
+     * @param values the values of the variables
+     * @return the rendered line
+     */
+    public String render(Map<String, ?> values) {
+        Objects.requireNonNull(values, "values");
+
+        return render(values, new StringBuilder());
+    }
+
+    String render(Map<String, ?> values, StringBuilder builder) {
+        if (this.variables.length == 0) {
+            return this.literals[0];
+        }
+
+        builder.setLength(0);
+        builder.ensureCapacity(this.literalsLength + 8 * this.variables.length);
+
+        for (int i = 0; i < this.variables.length; i++) {
+            builder.append(this.literals[i]);
+            appendValue(builder, this.variables[i], values.get(this.variables[i]));
+        }
+
+        return builder.append(this.literals[this.variables.length]).toString();
+    }
+
+    private static void appendValue(StringBuilder builder, String variable, Object value) {
+        // Primitive wrappers are appended directly, without creating an intermediate string
+        if (value instanceof Integer) {
+            builder.append((int) (Integer) value);
+        } else if (value instanceof Long) {
+            builder.append((long) (Long) value);
+        } else if (value instanceof CharSequence) {
+            builder.append((CharSequence) value);
+        } else if (value != null) {
+            builder.append(value);
+        } else {
+            builder.append('{').append(variable).append('}');
+        }
+    }
+
+    private static boolean isVariableChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '_' || c == '-' || c == '.';
+    }
+}
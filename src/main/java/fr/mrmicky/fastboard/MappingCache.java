@@ -0,0 +1,270 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Names of the classes and members resolved by reflection, persisted to a file so the next
+ * boot of the same server can look them up directly instead of scanning the NMS classes.
+ * The file is only used by the same server version and jar, each cached name is then only checked
+ * with a direct lookup, and scanned again when it doesn't match.
+ * The NMS classes missing on the server are also cached, as failing to load a class is slower than loading it.
+ *
+ * @author MrMicky
+ */
+final class MappingCache {
+
+    private static final String FILE_NAME = "fastboard-mappings.properties";
+    private static final String SERVER_KEY = "server";
+    private static final String CLASS_KEY_PREFIX = "class.";
+    private static final String MISSING_CLASS = "missing";
+
+    // Names read from the cache file, when it was written by the same server version
+    private static final Map<String, String> cachedNames = new HashMap<>();
+    // Names resolved during this boot
+    private static final Map<String, String> resolvedNames = new HashMap<>();
+    private static Plugin plugin;
+
+    private MappingCache() {
+        throw new UnsupportedOperationException();
+    }
+
+    static synchronized void use(Plugin owner) {
+        plugin = owner;
+        cachedNames.clear();
+
+        Path file = file();
+        if (!Files.isRegularFile(file) || !resolvedNames.isEmpty()) {
+            // Already resolved when the cache is enabled late, so it can be written right away
+            save();
+            return;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException | IllegalArgumentException e) {
+            owner.getLogger().log(Level.WARNING, "Unable to read the FastBoard mappings cache", e);
+            return;
+        }
+
+        if (!serverKey().equals(properties.getProperty(SERVER_KEY))) {
+            return; // Written by another server version, everything is resolved again
+        }
+
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.equals(SERVER_KEY)) {
+                cachedNames.put(key, properties.getProperty(key));
+            }
+        }
+    }
+
+    /**
+     * Returns the cached name for the given key if it is valid, or resolves it again.
+     *
+     * @param key       the key of the name
+     * @param validator checks that a cached name can still be used
+     * @param resolver  resolves the name when it isn't cached or not valid, may return null
+     * @return the name, or null if it can't be resolved
+     */
+    static synchronized String name(String key, Predicate<String> validator, Supplier<String> resolver) {
+        String name = cachedNames.get(key);
+
+        if (name == null || !validator.test(name)) {
+            name = resolver.get();
+        }
+
+        if (name != null) {
+            resolvedNames.put(key, name);
+        }
+        return name;
+    }
+
+    static Optional<Field> field(String key, Class<?> declaringClass, Predicate<Field> predicate, Supplier<Optional<Field>> scanner) {
+        String name = name(key, n -> declaredField(declaringClass, n).filter(predicate).isPresent(),
+                () -> scanner.get().map(Field::getName).orElse(null));
+
+        Optional<Field> field = name != null ? declaredField(declaringClass, name).filter(predicate) : Optional.empty();
+        field.ifPresent(f -> f.setAccessible(true));
+        return field;
+    }
+
+    static Optional<Method> method(String key, Class<?> declaringClass, Class<?>[] parameterTypes, Supplier<Optional<Method>> scanner) {
+        String name = name(key, n -> publicMethod(declaringClass, n, parameterTypes).isPresent(),
+                () -> scanner.get().map(Method::getName).orElse(null));
+
+        return name != null ? publicMethod(declaringClass, name, parameterTypes) : Optional.empty();
+    }
+
+    static Optional<Class<?>> innerClass(String key, Class<?> parentClass, Predicate<Class<?>> predicate) {
+        String name = name(key, n -> loadClass(parentClass, n).filter(c -> c.getDeclaringClass() == parentClass && predicate.test(c)).isPresent(), () -> {
+            try {
+                return FastReflection.innerClass(parentClass, predicate).getName();
+            } catch (ClassNotFoundException e) {
+                return null;
+            }
+        });
+
+        return name != null ? loadClass(parentClass, name) : Optional.empty();
+    }
+
+    static Class<?> nmsClass(String post1_17package, String className) throws ClassNotFoundException {
+        return nmsClass(post1_17package, className, className);
+    }
+
+    static Class<?> nmsClass(String post1_17package, String spigotClass, String mojangClass) throws ClassNotFoundException {
+        String className = FastReflection.nmsClassName(post1_17package, FastReflection.isMojangMapped() ? mojangClass : spigotClass);
+        return optionalClass(className).orElseThrow(() -> new ClassNotFoundException(className));
+    }
+
+    static Optional<Class<?>> nmsOptionalClass(String post1_17package, String className) {
+        return nmsOptionalClass(post1_17package, className, className);
+    }
+
+    static Optional<Class<?>> nmsOptionalClass(String post1_17package, String spigotClass, String mojangClass) {
+        return optionalClass(FastReflection.nmsClassName(post1_17package, FastReflection.isMojangMapped() ? mojangClass : spigotClass));
+    }
+
+    /**
+     * Loads a class, unless the cache file found that it is missing on this server.
+     */
+    private static synchronized Optional<Class<?>> optionalClass(String className) {
+        String key = CLASS_KEY_PREFIX + className;
+
+        if (MISSING_CLASS.equals(cachedNames.get(key))) {
+            resolvedNames.put(key, MISSING_CLASS);
+            return Optional.empty();
+        }
+
+        Optional<Class<?>> clazz = FastReflection.optionalClass(className);
+        if (!clazz.isPresent()) {
+            resolvedNames.put(key, MISSING_CLASS);
+        }
+        return clazz;
+    }
+
+    /**
+     * Writes the names resolved during this boot to the cache file, if a plugin uses the cache
+     * and something changed since it was read.
+     */
+    static synchronized void save() {
+        if (plugin == null || resolvedNames.equals(cachedNames)) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        properties.putAll(resolvedNames);
+        properties.setProperty(SERVER_KEY, serverKey());
+
+        Path file = file();
+        try {
+            Files.createDirectories(file.getParent());
+            Path tempFile = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                properties.store(out, "FastBoard reflection cache, regenerated when the server version changes");
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            cachedNames.clear();
+            cachedNames.putAll(resolvedNames);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Unable to write the FastBoard mappings cache", e);
+        }
+    }
+
+    private static Path file() {
+        return plugin.getDataFolder().toPath().resolve(FILE_NAME);
+    }
+
+    private static String serverKey() {
+        return Bukkit.getVersion() + ';' + Bukkit.getServer().getClass().getPackage().getName()
+                + ';' + FastReflection.isRepackaged() + ';' + FastReflection.isMojangMapped() + ';' + serverJar();
+    }
+
+    /**
+     * Returns the name and size of the jar of the server, so a server rebuilt with the same version
+     * doesn't reuse the names of the previous build.
+     */
+    private static String serverJar() {
+        try {
+            CodeSource source = Bukkit.getServer().getClass().getProtectionDomain().getCodeSource();
+            if (source == null || source.getLocation() == null) {
+                return "";
+            }
+
+            Path jar = Paths.get(source.getLocation().toURI());
+            return jar.getFileName() + ":" + Files.size(jar);
+        } catch (IOException | URISyntaxException | IllegalArgumentException | FileSystemNotFoundException | SecurityException e) {
+            return "";
+        }
+    }
+
+    private static Optional<Field> declaredField(Class<?> declaringClass, String name) {
+        for (Class<?> clazz = declaringClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            try {
+                return Optional.of(clazz.getDeclaredField(name));
+            } catch (NoSuchFieldException e) {
+                // Declared by a super class
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Method> publicMethod(Class<?> declaringClass, String name, Class<?>[] parameterTypes) {
+        try {
+            return Optional.of(declaringClass.getMethod(name, parameterTypes));
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Class<?>> loadClass(Class<?> parentClass, String name) {
+        try {
+            return Optional.of(Class.forName(name, false, parentClass.getClassLoader()));
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link PacketEncoder} using the Minecraft packet encoder in the pipeline of the player channels.
+ * Encoded packets are written from the context of the encoder, so they still go through the
+ * next handlers (compression, length prefix, encryption).
+ * <p>
+ * Only the channels whose pipeline has no handler added by a plugin are pre-encoded, as protocol
+ * translators can replace the encoder or change the bytes for each client version, and packet
+ * listeners would not see the pre-encoded packets.
+ */
+final class NettyPacketEncoder implements PacketEncoder {
+
+    static final NettyPacketEncoder INSTANCE = new NettyPacketEncoder();
+
+    private static final String ENCODER_HANDLER = "encoder";
+    // Packages of the handlers added by the server itself
+    private static final String[] SERVER_HANDLER_PACKAGES = {
+            "net.minecraft.", "io.netty.", "org.bukkit.craftbukkit.", "org.spigotmc.", "com.destroystokyo.paper.", "io.papermc.paper."
+    };
+
+    private static final Class<?> CHANNEL_HANDLER_CONTEXT_CLASS;
+    private static final Class<?> BYTE_BUF_CLASS;
+    private static final MethodHandle CHANNEL_PIPELINE;
+    private static final MethodHandle CHANNEL_EVENT_LOOP;
+    private static final MethodHandle CHANNEL_FLUSH;
+    private static final MethodHandle PIPELINE_CONTEXT;
+    private static final MethodHandle PIPELINE_TO_MAP;
+    private static final MethodHandle CONTEXT_HANDLER;
+    private static final MethodHandle CONTEXT_ALLOC;
+    private static final MethodHandle CONTEXT_WRITE;
+    private static final MethodHandle ALLOC_BUFFER;
+    private static final MethodHandle BUFFER_DUPLICATE;
+    private static final MethodHandle BUFFER_RETAIN;
+    private static final MethodHandle BUFFER_RELEASE;
+
+    static {
+        MethodHandle channelPipeline = null;
+        MethodHandle channelEventLoop = null;
+        MethodHandle channelFlush = null;
+        MethodHandle pipelineContext = null;
+        MethodHandle pipelineToMap = null;
+        MethodHandle contextHandler = null;
+        MethodHandle contextAlloc = null;
+        MethodHandle contextWrite = null;
+        MethodHandle allocBuffer = null;
+        MethodHandle bufferDuplicate = null;
+        MethodHandle bufferRetain = null;
+        MethodHandle bufferRelease = null;
+        Class<?> contextClass = null;
+        Class<?> byteBufClass = null;
+
+        // Netty is relocated on 1.7.10
+        Optional<Class<?>> channelClass = FastReflection.optionalClass("io.netty.channel.Channel");
+        String nettyPackage = channelClass.isPresent() ? "io.netty" : "net.minecraft.util.io.netty";
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> channel = Class.forName(nettyPackage + ".channel.Channel");
+            Class<?> pipeline = Class.forName(nettyPackage + ".channel.ChannelPipeline");
+            Class<?> handler = Class.forName(nettyPackage + ".channel.ChannelHandler");
+            Class<?> eventLoop = Class.forName(nettyPackage + ".channel.EventLoop");
+            Class<?> allocator = Class.forName(nettyPackage + ".buffer.ByteBufAllocator");
+            contextClass = Class.forName(nettyPackage + ".channel.ChannelHandlerContext");
+            byteBufClass = Class.forName(nettyPackage + ".buffer.ByteBuf");
+
+            channelPipeline = lookup.findVirtual(channel, "pipeline", MethodType.methodType(pipeline));
+            channelEventLoop = lookup.findVirtual(channel, "eventLoop", MethodType.methodType(eventLoop));
+            channelFlush = lookup.findVirtual(channel, "flush", MethodType.methodType(channel));
+            pipelineContext = lookup.findVirtual(pipeline, "context", MethodType.methodType(contextClass, String.class));
+            pipelineToMap = lookup.findVirtual(pipeline, "toMap", MethodType.methodType(Map.class));
+            contextHandler = lookup.findVirtual(contextClass, "handler", MethodType.methodType(handler));
+            contextAlloc = lookup.findVirtual(contextClass, "alloc", MethodType.methodType(allocator));
+            contextWrite = lookup.unreflect(contextClass.getMethod("write", Object.class));
+            allocBuffer = lookup.findVirtual(allocator, "buffer", MethodType.methodType(byteBufClass));
+            bufferDuplicate = lookup.findVirtual(byteBufClass, "duplicate", MethodType.methodType(byteBufClass));
+            bufferRetain = lookup.findVirtual(byteBufClass, "retain", MethodType.methodType(byteBufClass));
+            bufferRelease = lookup.findVirtual(byteBufClass, "release", MethodType.methodType(boolean.class));
+        } catch (ReflectiveOperationException e) {
+            // Netty is not available or has an unexpected API, pre-encoding is not supported
+            channelPipeline = null;
+        }
+
+        CHANNEL_HANDLER_CONTEXT_CLASS = contextClass;
+        BYTE_BUF_CLASS = byteBufClass;
+        CHANNEL_PIPELINE = channelPipeline;
+        CHANNEL_EVENT_LOOP = channelEventLoop;
+        CHANNEL_FLUSH = channelFlush;
+        PIPELINE_CONTEXT = pipelineContext;
+        PIPELINE_TO_MAP = pipelineToMap;
+        CONTEXT_HANDLER = contextHandler;
+        CONTEXT_ALLOC = contextAlloc;
+        CONTEXT_WRITE = contextWrite;
+        ALLOC_BUFFER = allocBuffer;
+        BUFFER_DUPLICATE = bufferDuplicate;
+        BUFFER_RETAIN = bufferRetain;
+        BUFFER_RELEASE = bufferRelease;
+    }
+
+    private final Map<Class<?>, Optional<MethodHandle>> encodeMethods = new ConcurrentHashMap<>();
+
+    private NettyPacketEncoder() {
+    }
+
+    static boolean isSupported() {
+        return CHANNEL_PIPELINE != null;
+    }
+
+    @Override
+    public Object encodingKey(Object channel) throws Throwable {
+        Object pipeline = CHANNEL_PIPELINE.invoke(channel);
+        Object context = PIPELINE_CONTEXT.invoke(pipeline, ENCODER_HANDLER);
+
+        if (context == null || !hasOnlyServerHandlers(pipeline)) {
+            return null;
+        }
+
+        Class<?> handlerClass = CONTEXT_HANDLER.invoke(context).getClass();
+        return encodeMethod(handlerClass).isPresent() ? handlerClass : null;
+    }
+
+    @Override
+    public Executor executor(Object channel) throws Throwable {
+        return (Executor) CHANNEL_EVENT_LOOP.invoke(channel);
+    }
+
+    @Override
+    public Object encode(Object channel, Object packet) throws Throwable {
+        Object context = encoderContext(channel);
+        Object handler = CONTEXT_HANDLER.invoke(context);
+        MethodHandle encodeMethod = encodeMethod(handler.getClass())
+                .orElseThrow(() -> new IllegalStateException("No encode method in " + handler.getClass()));
+        Object buffer = ALLOC_BUFFER.invoke(CONTEXT_ALLOC.invoke(context));
+
+        try {
+            encodeMethod.invoke(handler, context, packet, buffer);
+        } catch (Throwable t) {
+            BUFFER_RELEASE.invoke(buffer);
+            throw t;
+        }
+
+        return buffer;
+    }
+
+    @Override
+    public void write(Object channel, Object encoded) throws Throwable {
+        Object context = encoderContext(channel);
+        // Each channel gets its own reader index, sharing the same bytes
+        Object duplicate = BUFFER_RETAIN.invoke(BUFFER_DUPLICATE.invoke(encoded));
+
+        CONTEXT_WRITE.invoke(context, duplicate);
+    }
+
+    @Override
+    public void flush(Object channel) throws Throwable {
+        CHANNEL_FLUSH.invoke(channel);
+    }
+
+    @Override
+    public void release(Object encoded) throws Throwable {
+        BUFFER_RELEASE.invoke(encoded);
+    }
+
+    private Object encoderContext(Object channel) throws Throwable {
+        Object pipeline = CHANNEL_PIPELINE.invoke(channel);
+        return PIPELINE_CONTEXT.invoke(pipeline, ENCODER_HANDLER);
+    }
+
+    private static boolean hasOnlyServerHandlers(Object pipeline) throws Throwable {
+        for (Object handler : ((Map<?, ?>) PIPELINE_TO_MAP.invoke(pipeline)).values()) {
+            if (!isServerHandler(handler.getClass().getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isServerHandler(String className) {
+        for (String handlerPackage : SERVER_HANDLER_PACKAGES) {
+            if (className.startsWith(handlerPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Optional<MethodHandle> encodeMethod(Class<?> handlerClass) {
+        return this.encodeMethods.computeIfAbsent(handlerClass, NettyPacketEncoder::findEncodeMethod);
+    }
+
+    private static Optional<MethodHandle> findEncodeMethod(Class<?> handlerClass) {
+        for (Class<?> clazz = handlerClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                Class<?>[] params = method.getParameterTypes();
+
+                if (method.getName().equals("encode") && params.length == 3 && !method.isBridge()
+                        && params[0] == CHANNEL_HANDLER_CONTEXT_CLASS && params[2] == BYTE_BUF_CLASS) {
+                    try {
+                        method.setAccessible(true);
+                        return Optional.of(MethodHandles.lookup().unreflect(method));
+                    } catch (ReflectiveOperationException | RuntimeException e) {
+                        return Optional.empty();
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Encoder writing packets as bytes, so a packet shared by many viewers is only encoded once.
+ * <p>
+ * Packets are encoded and written on the {@link #executor(Object) executor} of the channels, and are
+ * sent normally to the channels without an {@link #encodingKey(Object) encoding key}, or when
+ * they can't be encoded.
+ * <p>
+ * Channels and encoded packets are typed as {@link Object}, as the Netty classes are not
+ * available at compile time and are relocated on some server versions.
+ *
+ * @author MrMicky
+ */
+public interface PacketEncoder {
+
+    /**
+     * Returns the default encoder, using the packet encoder of the player Netty channels.
+     *
+     * @return the Netty packet encoder, or null if it's not supported by the server
+     */
+    static PacketEncoder netty() {
+        return NettyPacketEncoder.isSupported() ? NettyPacketEncoder.INSTANCE : null;
+    }
+
+    /**
+     * Returns a key identifying how packets are encoded for a channel. Channels with the same key
+     * receive the same encoded bytes, so the key must be null when the packets may be encoded or
+     * handled differently for this channel, for example by a protocol translator or a packet listener.
+     *
+     * @param channel the channel of a player
+     * @return the encoding key, or null if pre-encoded packets can't be sent to this channel
+     * @throws Throwable if the channel can't be inspected
+     */
+    Object encodingKey(Object channel) throws Throwable;
+
+    /**
+     * Returns the executor on which packets are encoded and written to a channel.
+     * The default implementation runs them on the calling thread.
+     *
+     * @param channel the channel of a player
+     * @return the executor of the channel
+     * @throws Throwable if the channel can't be inspected
+     */
+    default Executor executor(Object channel) throws Throwable {
+        return Runnable::run;
+    }
+
+    /**
+     * Encodes a packet for a channel, on the executor of this channel.
+     * The encoded packet must be released with {@link #release(Object)}.
+     *
+     * @param channel the channel of a player
+     * @param packet  the packet to encode
+     * @return the encoded packet
+     * @throws Throwable if the packet can't be encoded
+     */
+    Object encode(Object channel, Object packet) throws Throwable;
+
+    /**
+     * Writes an encoded packet to a channel, without flushing it, on the executor of this channel.
+     * The encoded packet must remain usable for other channels.
+     *
+     * @param channel the channel of a player
+     * @param encoded the encoded packet
+     * @throws Throwable if the packet can't be written
+     */
+    void write(Object channel, Object encoded) throws Throwable;
+
+    /**
+     * Flushes the packets written to a channel.
+     *
+     * @param channel the channel of a player
+     * @throws Throwable if the channel can't be flushed
+     */
+    void flush(Object channel) throws Throwable;
+
+    /**
+     * Releases an encoded packet, once it has been written to all the channels.
+     *
+     * @param encoded the encoded packet
+     * @throws Throwable if the packet can't be released
+     */
+    void release(Object encoded) throws Throwable;
+}
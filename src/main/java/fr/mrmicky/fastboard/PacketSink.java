@@ -0,0 +1,89 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Destination of the packets sent by a scoreboard. By default, packets are sent to the connection
+ * of the viewers, but other implementations can batch, meter or capture the packets, or deliver them
+ * in a different way.
+ * <p>
+ * A sink is created for each scoreboard, and is only used by one thread at a time.
+ * Packets are typed as {@link Object}, as the Minecraft classes are not available at compile time.
+ *
+ * @author MrMicky
+ */
+public interface PacketSink {
+
+    /**
+     * Sends the packets of a single update to a viewer. The packets must be delivered in order.
+     *
+     * @param viewer  the player viewing the scoreboard
+     * @param packets the packets of the update
+     * @throws Throwable if the packets can't be sent
+     */
+    void sendPackets(Player viewer, List<Object> packets) throws Throwable;
+
+    /**
+     * Sends the packets of a single update to all the viewers of a scoreboard.
+     * The default implementation sends the packets to each viewer one by one.
+     *
+     * @param viewers the players viewing the scoreboard
+     * @param packets the packets of the update
+     * @throws Throwable if the packets can't be sent
+     */
+    default void sendPackets(Collection<Player> viewers, List<Object> packets) throws Throwable {
+        for (Player viewer : viewers) {
+            sendPackets(viewer, packets);
+        }
+    }
+
+    /**
+     * Returns whether a viewer can receive packets now, for example when its connection is not congested.
+     * When a viewer is not ready, the updates are not sent to it until it is ready again,
+     * and it then only receives the difference with the latest state of the scoreboard.
+     * This is only used when {@link FastBoardBase#pauseSlowViewers()} is enabled.
+     * The default implementation always returns true.
+     *
+     * @param viewer the player viewing the scoreboard
+     * @return true if the packets can be sent to the viewer now
+     * @throws Throwable if the viewer connection can't be inspected
+     */
+    default boolean isReady(Player viewer) throws Throwable {
+        return true;
+    }
+
+    /**
+     * Called when a player stops viewing the scoreboard, or when the scoreboard is deleted,
+     * so any state kept for this viewer can be released.
+     *
+     * @param viewer the player no longer viewing the scoreboard
+     */
+    default void removeViewer(Player viewer) {
+    }
+}
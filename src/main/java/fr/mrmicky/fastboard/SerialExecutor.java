@@ -0,0 +1,90 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executor running its tasks one at a time and in submission order, on a shared backing executor.
+ * No thread is dedicated to it, so any number of serial executors can share a small pool,
+ * or a virtual thread per task executor.
+ *
+ * @author MrMicky
+ */
+final class SerialExecutor implements Executor {
+
+    // Tasks run before letting other serial executors use the backing thread
+    private static final int MAX_BATCH = 64;
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private final Supplier<Executor> backingExecutor;
+
+    SerialExecutor(Supplier<Executor> backingExecutor) {
+        this.backingExecutor = backingExecutor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        this.tasks.add(Objects.requireNonNull(task, "task"));
+
+        if (this.pendingTasks.getAndIncrement() == 0) {
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        try {
+            this.backingExecutor.get().execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // The backing executor is shut down, the tasks are run by the caller to keep their order
+            drain();
+        }
+    }
+
+    private void drain() {
+        int ran = 0;
+
+        do {
+            if (ran++ == MAX_BATCH) {
+                schedule();
+                return;
+            }
+
+            Runnable task = this.tasks.poll();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+            }
+        } while (this.pendingTasks.decrementAndGet() != 0);
+    }
+}
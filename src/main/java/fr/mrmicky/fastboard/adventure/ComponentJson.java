@@ -0,0 +1,143 @@
+/*
+ * This file is part of FastBoard, licensed under the MIT License.
+ *
+ * Copyright (c) 2019-2026 MrMicky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package fr.mrmicky.fastboard.adventure;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.KeybindComponent;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+
+import java.util.List;
+
+/**
+ * Writes Adventure components to the JSON text format read by the server, by walking the component tree.
+ * Only the text, keybind, color, decorations, font and children of the components are written,
+ * as the other properties are not displayed by scoreboards.
+ *
+ * @author MrMicky
+ */
+final class ComponentJson {
+
+    private static final TextDecoration[] DECORATIONS = TextDecoration.values();
+
+    private ComponentJson() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the JSON text of a component.
+     *
+     * @param component the component to write
+     * @param hexColors true if the server supports hex colors, otherwise they are replaced by the nearest named color
+     * @return the JSON text, or null if the component contains other components than text and keybind components
+     */
+    static String toJson(Component component, boolean hexColors) {
+        StringBuilder json = new StringBuilder(64);
+        return writeComponent(json, component, hexColors) ? json.toString() : null;
+    }
+
+    private static boolean writeComponent(StringBuilder json, Component component, boolean hexColors) {
+        if (component instanceof TextComponent) {
+            json.append("{\"text\":");
+            writeString(json, ((TextComponent) component).content());
+        } else if (component instanceof KeybindComponent) {
+            json.append("{\"keybind\":");
+            writeString(json, ((KeybindComponent) component).keybind());
+        } else {
+            return false;
+        }
+
+        Style style = component.style();
+        TextColor color = style.color();
+        if (color != null) {
+            json.append(",\"color\":");
+            writeString(json, colorName(color, hexColors));
+        }
+
+        for (TextDecoration decoration : DECORATIONS) {
+            TextDecoration.State state = style.decoration(decoration);
+
+            if (state != TextDecoration.State.NOT_SET) {
+                json.append(",\"").append(TextDecoration.NAMES.key(decoration)).append("\":")
+                        .append(state == TextDecoration.State.TRUE);
+            }
+        }
+
+        Key font = style.font();
+        if (font != null) {
+            json.append(",\"font\":");
+            writeString(json, font.asString());
+        }
+
+        List<Component> children = component.children();
+        if (!children.isEmpty()) {
+            json.append(",\"extra\":[");
+
+            for (int i = 0; i < children.size(); i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+
+                if (!writeComponent(json, children.get(i), hexColors)) {
+                    return false;
+                }
+            }
+
+            json.append(']');
+        }
+
+        json.append('}');
+        return true;
+    }
+
+    private static String colorName(TextColor color, boolean hexColors) {
+        if (color instanceof NamedTextColor) {
+            return NamedTextColor.NAMES.key((NamedTextColor) color);
+        }
+
+        return hexColors ? color.asHexString() : NamedTextColor.NAMES.key(NamedTextColor.nearestTo(color));
+    }
+
+    private static void writeString(StringBuilder json, String value) {
+        json.append('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+            } else {
+                json.append(c);
+            }
+        }
+
+        json.append('"');
+    }
+}
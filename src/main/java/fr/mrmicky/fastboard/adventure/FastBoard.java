@@ -23,8 +23,10 @@
  */
 package fr.mrmicky.fastboard.adventure;
 
+import fr.mrmicky.fastboard.ComponentCache;
 import fr.mrmicky.fastboard.FastBoardBase;
 import fr.mrmicky.fastboard.FastReflection;
+import fr.mrmicky.fastboard.PacketSink;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.entity.Player;
@@ -33,6 +35,8 @@ import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
 
 /**
  * Adventure {@link Component}-based implementation of {@link FastBoardBase}.
@@ -40,8 +44,12 @@ import java.lang.reflect.Method;
 public class FastBoard extends FastBoardBase<Component> {
 
     private static final MethodHandle COMPONENT_METHOD;
+    private static final MethodHandle COMPONENT_FROM_JSON;
     private static final Object EMPTY_COMPONENT;
     private static final boolean ADVENTURE_SUPPORT;
+    private static final boolean HEX_COLORS;
+
+    private static volatile ComponentCache<Component> componentCache;
 
     static {
         ADVENTURE_SUPPORT = FastReflection
@@ -54,12 +62,25 @@ public class FastBoard extends FastBoardBase<Component> {
                 Class<?> paperAdventure = Class.forName("io.papermc.paper.adventure.PaperAdventure");
                 Method method = paperAdventure.getDeclaredMethod("asVanilla", Component.class);
                 COMPONENT_METHOD = lookup.unreflect(method);
+                COMPONENT_FROM_JSON = null;
                 EMPTY_COMPONENT = COMPONENT_METHOD.invoke(Component.empty());
             } else {
                 Class<?> craftChatMessageClass = FastReflection.obcClass("util.CraftChatMessage");
                 COMPONENT_METHOD = lookup.unreflect(craftChatMessageClass.getMethod("fromString", String.class));
+                MethodHandle fromJson = null;
+                try {
+                    fromJson = lookup.unreflect(craftChatMessageClass.getMethod("fromJSON", String.class));
+                } catch (NoSuchMethodException e) {
+                    // Only available on recent versions
+                }
+                COMPONENT_FROM_JSON = fromJson;
                 EMPTY_COMPONENT = Array.get(COMPONENT_METHOD.invoke(""), 0);
             }
+
+            // Hex colors are supported since 1.16, which added them to the Bungee chat API
+            HEX_COLORS = ADVENTURE_SUPPORT || FastReflection.optionalClass("net.md_5.bungee.api.ChatColor")
+                    .map(chatColor -> Arrays.stream(chatColor.getMethods()).anyMatch(m -> m.getName().equals("of")))
+                    .orElse(false);
         } catch (Throwable t) {
             throw new ExceptionInInitializerError(t);
         }
@@ -74,6 +95,37 @@ public class FastBoard extends FastBoardBase<Component> {
         super(player);
     }
 
+    /**
+     * Creates a new FastBoard, sending its packets through a custom {@link PacketSink}.
+     *
+     * @param player     the owner of the scoreboard
+     * @param packetSink the function receiving the default sink and returning the sink to use,
+     *                   which can wrap or replace the default sink
+     */
+    public FastBoard(Player player, UnaryOperator<PacketSink> packetSink) {
+        super(player, packetSink);
+    }
+
+    /**
+     * Returns the cache shared by all the Adventure boards to convert lines to Minecraft components.
+     *
+     * @return the component cache, or null if caching is disabled
+     */
+    public static ComponentCache<Component> getComponentCache() {
+        return componentCache;
+    }
+
+    /**
+     * Sets the cache shared by all the Adventure boards to convert lines to Minecraft components.
+     * Caching is disabled by default, and is mostly useful on servers without native Adventure support,
+     * where each component is converted to JSON text and parsed by the server.
+     *
+     * @param cache the component cache, or null to disable caching
+     */
+    public static void setComponentCache(ComponentCache<Component> cache) {
+        componentCache = cache;
+    }
+
     /**
      * Sends a line update packet for the specified internal score.
      *
@@ -92,15 +144,38 @@ public class FastBoard extends FastBoardBase<Component> {
             return EMPTY_COMPONENT;
         }
 
-        // If the server isn't running adventure natively, we convert the component to legacy text
-        // and then to a Minecraft chat component
-        if (!ADVENTURE_SUPPORT) {
-            String legacy = serializeLine(component);
+        ComponentCache<Component> cache = componentCache;
+        if (cache == null) {
+            return convertComponent(component);
+        }
+
+        Object result = cache.get(component);
+        if (result == null) {
+            result = convertComponent(component);
+            cache.put(component, result);
+        }
+        return result;
+    }
+
+    private Object convertComponent(Component component) throws Throwable {
+        if (ADVENTURE_SUPPORT) {
+            return COMPONENT_METHOD.invoke(component);
+        }
+
+        // If the server isn't running adventure natively, we convert the component to JSON text,
+        // parsed once by the server, and only use legacy text on servers without JSON support
+        // or for components that can't be written directly
+        if (COMPONENT_FROM_JSON != null) {
+            String json = ComponentJson.toJson(component, HEX_COLORS);
 
-            return Array.get(COMPONENT_METHOD.invoke(legacy), 0);
+            if (json != null) {
+                return COMPONENT_FROM_JSON.invoke(json);
+            }
         }
 
-        return COMPONENT_METHOD.invoke(component);
+        String legacy = serializeLine(component);
+
+        return Array.get(COMPONENT_METHOD.invoke(legacy), 0);
     }
 
     @Override
@@ -108,6 +183,11 @@ public class FastBoard extends FastBoardBase<Component> {
         return LegacyComponentSerializer.legacySection().serialize(value);
     }
 
+    @Override
+    protected Component templateLine(String text) {
+        return LegacyComponentSerializer.legacySection().deserialize(text);
+    }
+
     @Override
     protected Component emptyLine() {
         return Component.empty();